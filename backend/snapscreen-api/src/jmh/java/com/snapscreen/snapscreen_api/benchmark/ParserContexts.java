@@ -0,0 +1,33 @@
+package com.snapscreen.snapscreen_api.benchmark;
+
+import com.snapscreen.snapscreen_api.config.ParserConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Builds the parser outside the web application for the benchmarks
+ */
+final class ParserContexts {
+
+    private ParserContexts() {
+    }
+
+    /**
+     * Wire the parser the way the application does, with the default settings except for
+     * the page cache: it is off, or every repeat of a document would be a cache hit
+     * @return A started context holding the parser beans, to be closed by the caller
+     */
+    static AnnotationConfigApplicationContext create() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(
+            new MapPropertySource("benchmark", Map.of("parser.page-cache-max-items", 0)));
+        context.register(ParserConfig.class);
+        context.registerBean(SimpleMeterRegistry.class);
+        context.scan("com.snapscreen.snapscreen_api.parser");
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,151 @@
+package com.snapscreen.snapscreen_api.benchmark;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Education;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Experience;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Profile;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Skills;
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import com.snapscreen.snapscreen_api.parser.read.PageCache;
+import com.snapscreen.snapscreen_api.parser.read.PdfReader;
+import com.snapscreen.snapscreen_api.parser.read.TextItemIndex;
+import com.snapscreen.snapscreen_api.parser.read.group.LineGrouper;
+import com.snapscreen.snapscreen_api.parser.read.group.SectionGrouper;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.EducationExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.ExperienceExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.ProfileExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.ResumeExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.SkillsExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureBits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each stage of the parser, each extractor and the whole pipeline on the
+ * resumes in src/jmh/resources/corpus. Every stage is measured on the output of the
+ * previous stages, which is computed once per trial. The page cache is off except in
+ * readUnchanged, which re-reads a document whose pages are all cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ParserPipelineBenchmark {
+
+    @Param({"one-page-single-column", "two-page-single-column", "four-page-dense", "two-column-sidebar"})
+    public String document;
+
+    private AnnotationConfigApplicationContext context;
+    private PdfReader pdfReader;
+    private PdfReader cachedPdfReader;
+    private LineGrouper lineGrouper;
+    private SectionGrouper sectionGrouper;
+    private ResumeExtractor resumeExtractor;
+    private ProfileExtractor profileExtractor;
+    private EducationExtractor educationExtractor;
+    private ExperienceExtractor experienceExtractor;
+    private SkillsExtractor skillsExtractor;
+    private ResumeParser resumeParser;
+
+    private byte[] pdf;
+    private List<TextItem> textItems;
+    private TextItemIndex textItemIndex;
+    private List<ResumeLine> lines;
+    private Map<String, ResumeSection> sections;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = ParserContexts.create();
+
+        pdfReader = context.getBean(PdfReader.class);
+        lineGrouper = context.getBean(LineGrouper.class);
+        sectionGrouper = context.getBean(SectionGrouper.class);
+        resumeExtractor = context.getBean(ResumeExtractor.class);
+        profileExtractor = context.getBean(ProfileExtractor.class);
+        educationExtractor = context.getBean(EducationExtractor.class);
+        experienceExtractor = context.getBean(ExperienceExtractor.class);
+        skillsExtractor = context.getBean(SkillsExtractor.class);
+        resumeParser = context.getBean(ResumeParser.class);
+
+        try (InputStream in = ParserPipelineBenchmark.class.getResourceAsStream("/corpus/" + document + ".pdf")) {
+            if (in == null) {
+                throw new IOException("Corpus document not found: " + document);
+            }
+            pdf = in.readAllBytes();
+        }
+        textItems = pdfReader.extractTextFromPdf(pdf);
+        cachedPdfReader = new PdfReader(new PageCache(500_000, new SimpleMeterRegistry()));
+        cachedPdfReader.extractTextFromPdf(pdf);
+        textItemIndex = TextItemIndex.build(textItems);
+        FeatureBits.annotate(textItems);
+        lines = lineGrouper.groupIntoLines(textItems);
+        sections = sectionGrouper.groupIntoSections(lines);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TextItem> read() throws IOException {
+        return pdfReader.extractTextFromPdf(pdf);
+    }
+
+    @Benchmark
+    public List<TextItem> readUnchanged() throws IOException {
+        return cachedPdfReader.extractTextFromPdf(pdf);
+    }
+
+    @Benchmark
+    public List<ResumeLine> lines() {
+        return lineGrouper.groupIntoLines(textItems);
+    }
+
+    @Benchmark
+    public Map<String, ResumeSection> sections() {
+        return sectionGrouper.groupIntoSections(lines);
+    }
+
+    @Benchmark
+    public ParsedResume extract() {
+        return resumeExtractor.extractResumeFromSections(sections, textItemIndex);
+    }
+
+    @Benchmark
+    public Profile extractProfile() {
+        return profileExtractor.extractProfile(sections);
+    }
+
+    @Benchmark
+    public List<Education> extractEducation() {
+        return educationExtractor.extractEducation(sections);
+    }
+
+    @Benchmark
+    public List<Experience> extractExperience() {
+        return experienceExtractor.extractExperience(sections, textItemIndex);
+    }
+
+    @Benchmark
+    public Skills extractSkills() {
+        return skillsExtractor.extractSkills(sections);
+    }
+
+    @Benchmark
+    public ParsedResume endToEnd() {
+        return resumeParser.parseResumeFromPdf(pdf);
+    }
+}
@@ -0,0 +1,251 @@
+package com.snapscreen.snapscreen_api.benchmark;
+
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for the parser: generates a synthetic corpus, then parses it from N threads
+ * at once and reports throughput, latency percentiles and allocation per thread count.
+ * Running several thread counts shows how throughput scales and where contention sets in.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:java -Dexec.args="--threads 1,2,4,8 --duration 30"
+ * </pre>
+ *
+ * Options:
+ * <ul>
+ *   <li>--threads: comma-separated thread counts to run, default 1 and the number of cores</li>
+ *   <li>--docs: corpus size, default 200</li>
+ *   <li>--seed: corpus seed, default 42</li>
+ *   <li>--warmup: seconds of warm-up before each measurement, default 10</li>
+ *   <li>--duration: seconds measured per thread count, default 30</li>
+ *   <li>--write-corpus: directory to also write the corpus PDFs to</li>
+ * </ul>
+ */
+public final class ParserThroughput {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ParserThroughput() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = cores > 1 ? new int[] {1, cores} : new int[] {1};
+        int docs = 200;
+        long seed = 42;
+        long warmupSeconds = 10;
+        long durationSeconds = 30;
+        Path corpusDir = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--threads" -> threadCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--docs" -> docs = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--warmup" -> warmupSeconds = Long.parseLong(value);
+                case "--duration" -> durationSeconds = Long.parseLong(value);
+                case "--write-corpus" -> corpusDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        System.out.printf("Generating %d resumes (seed %d)...%n", docs, seed);
+        List<byte[]> corpus = SyntheticResumeCorpus.generate(docs, seed);
+        long corpusBytes = corpus.stream().mapToLong(pdf -> pdf.length).sum();
+        System.out.printf("Corpus: %d documents, %.1f MB%n", corpus.size(), corpusBytes / 1e6);
+        if (corpusDir != null) {
+            writeCorpus(corpus, corpusDir);
+        }
+
+        try (AnnotationConfigApplicationContext context = ParserContexts.create()) {
+            ResumeParser parser = context.getBean(ResumeParser.class);
+            System.out.printf("%nWarm-up %ds and measurement %ds per thread count, %d cores%n%n",
+                warmupSeconds, durationSeconds, cores);
+            System.out.printf("%7s %10s %9s %9s %9s %9s %14s %12s %8s%n",
+                "threads", "docs/s", "scaling", "p50 ms", "p99 ms", "p99.9 ms", "MB/s/thread", "KB/doc", "errors");
+
+            double baseline = 0;
+            for (int threads : threadCounts) {
+                Result result = run(parser, corpus, threads,
+                    TimeUnit.SECONDS.toNanos(warmupSeconds), TimeUnit.SECONDS.toNanos(durationSeconds));
+                if (baseline == 0) {
+                    baseline = result.docsPerSecond() / threads;
+                }
+                // 1.0 means perfectly linear scaling from the first thread count
+                double scaling = result.docsPerSecond() / (baseline * threads);
+                System.out.printf("%7d %10.1f %9.2f %9.2f %9.2f %9.2f %14.1f %12.1f %8d%n",
+                    threads, result.docsPerSecond(), scaling,
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(0.999),
+                    result.allocatedMegabytesPerSecondPerThread(), result.allocatedKilobytesPerDocument(),
+                    result.errors());
+            }
+        }
+    }
+
+    /**
+     * Parse the corpus from a number of threads, round robin, for a fixed time
+     */
+    private static Result run(ResumeParser parser, List<byte[]> corpus, int threads,
+                              long warmupNanos, long durationNanos) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        long measureStart = System.nanoTime() + warmupNanos;
+        long measureEnd = measureStart + durationNanos;
+        Worker[] workers = new Worker[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Worker(parser, corpus, next, measureStart, measureEnd);
+            workers[t].setName("throughput-" + (t + 1));
+            workers[t].start();
+        }
+
+        // Allocation by every thread, including the parser's page and extract pools
+        Thread.sleep(Math.max(0, TimeUnit.NANOSECONDS.toMillis(measureStart - System.nanoTime())));
+        long allocatedBefore = THREADS.getTotalThreadAllocatedBytes();
+        Thread.sleep(Math.max(0, TimeUnit.NANOSECONDS.toMillis(measureEnd - System.nanoTime())));
+        long allocatedAfter = THREADS.getTotalThreadAllocatedBytes();
+
+        List<long[]> latencies = new ArrayList<>(threads);
+        int documents = 0;
+        int errors = 0;
+        double workerMegabytesPerSecond = 0;
+        for (Worker worker : workers) {
+            worker.join();
+            latencies.add(Arrays.copyOf(worker.latencies, worker.count));
+            documents += worker.count;
+            errors += worker.errors;
+            workerMegabytesPerSecond += worker.allocatedMegabytesPerSecond();
+        }
+        return new Result(merge(latencies), documents, errors, durationNanos,
+            workerMegabytesPerSecond / threads, allocatedAfter - allocatedBefore);
+    }
+
+    /**
+     * Parses documents until the measurement ends, recording the ones that start inside it
+     */
+    private static final class Worker extends Thread {
+        private final ResumeParser parser;
+        private final List<byte[]> corpus;
+        private final AtomicInteger next;
+        private final long measureStart;
+        private final long measureEnd;
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private long allocatedAtStart = -1;
+        private long allocatedAtEnd;
+        private long measuredNanos;
+
+        Worker(ResumeParser parser, List<byte[]> corpus, AtomicInteger next, long measureStart, long measureEnd) {
+            this.parser = parser;
+            this.corpus = corpus;
+            this.next = next;
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long firstStart = 0;
+            long lastEnd = 0;
+            while (true) {
+                byte[] pdf = corpus.get(Math.floorMod(next.getAndIncrement(), corpus.size()));
+                long start = System.nanoTime();
+                if (start >= measureEnd) {
+                    break;
+                }
+                boolean measured = start >= measureStart;
+                if (measured && allocatedAtStart < 0) {
+                    allocatedAtStart = THREADS.getCurrentThreadAllocatedBytes();
+                    firstStart = start;
+                }
+
+                boolean failed = false;
+                try {
+                    parser.parseResumeFromPdf(pdf);
+                } catch (RuntimeException e) {
+                    failed = true;
+                }
+                long end = System.nanoTime();
+
+                if (measured) {
+                    if (failed) {
+                        errors++;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = end - start;
+                    lastEnd = end;
+                }
+            }
+            if (allocatedAtStart >= 0) {
+                allocatedAtEnd = THREADS.getCurrentThreadAllocatedBytes();
+                measuredNanos = lastEnd - firstStart;
+            }
+        }
+
+        double allocatedMegabytesPerSecond() {
+            if (measuredNanos == 0) {
+                return 0;
+            }
+            return (allocatedAtEnd - allocatedAtStart) / 1e6 / (measuredNanos / 1e9);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, int documents, int errors, long durationNanos,
+                          double allocatedMegabytesPerSecondPerThread, long allocatedBytes) {
+
+        double docsPerSecond() {
+            return documents / (durationNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        double allocatedKilobytesPerDocument() {
+            return documents == 0 ? 0 : allocatedBytes / 1e3 / documents;
+        }
+    }
+
+    private static long[] merge(List<long[]> latencies) {
+        long[] merged = new long[latencies.stream().mapToInt(l -> l.length).sum()];
+        int offset = 0;
+        for (long[] l : latencies) {
+            System.arraycopy(l, 0, merged, offset, l.length);
+            offset += l.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static void writeCorpus(List<byte[]> corpus, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (int i = 0; i < corpus.size(); i++) {
+            Files.write(dir.resolve(String.format("resume-%04d.pdf", i)), corpus.get(i));
+        }
+        System.out.printf("Wrote the corpus to %s%n", dir);
+    }
+}
@@ -0,0 +1,359 @@
+package com.snapscreen.snapscreen_api.benchmark;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates resume PDFs of fictional people for load testing. The same seed always gives
+ * the same documents, byte for byte. Documents vary in:
+ * <ul>
+ *   <li>layout: a single column, or a sidebar with contact details and skills next to the main column</li>
+ *   <li>length: 1 to 30 pages, mostly short</li>
+ *   <li>section headings: bold, upper case, or both</li>
+ *   <li>bullet style and font family</li>
+ * </ul>
+ */
+public final class SyntheticResumeCorpus {
+
+    /**
+     * How a generated resume looks
+     */
+    public record Spec(int pages, boolean twoColumns, boolean boldHeadings, boolean capsHeadings,
+                       String bullet, boolean serif) {
+    }
+
+    private static final int MAX_PAGES = 30;
+    // Bullets PDFBox's standard fonts can encode, all recognised by the parser
+    private static final String[] BULLETS = {"•", "-", "*", "»"};
+
+    private static final String[] FIRST_NAMES = {
+        "Avery", "Jordan", "Priya", "Mateo", "Sofia", "Kenji", "Amara", "Lukas", "Nadia", "Omar",
+        "Elena", "Tariq", "Hannah", "Diego", "Mei", "Samuel", "Leila", "Noah", "Ingrid", "Kwame"
+    };
+    private static final String[] LAST_NAMES = {
+        "Okafor", "Lindqvist", "Raman", "Herrera", "Novak", "Tanaka", "Haddad", "Fischer", "Moreau", "Mensah",
+        "Kowalski", "Silva", "O'Brien", "Petrov", "Nguyen", "Abernathy", "Castillo", "Varga", "Jensen", "Adeyemi"
+    };
+    private static final String[] CITIES = {
+        "Toronto, ON", "Austin, TX", "Chicago, IL", "Denver, CO", "Seattle, WA", "Boston, MA", "Vancouver, BC", "Atlanta, GA"
+    };
+    private static final String[] SCHOOLS = {
+        "University of Toronto", "University of Texas at Austin", "Georgia Institute of Technology",
+        "University of Washington", "McGill University", "University of Michigan", "Purdue University"
+    };
+    private static final String[] DEGREES = {
+        "Bachelor of Science in Computer Science", "Bachelor of Arts in Economics", "Master of Science in Data Science",
+        "Bachelor of Engineering in Software Engineering", "Master of Business Administration"
+    };
+    private static final String[] COMPANIES = {
+        "Northwind Traders", "Contoso Ltd", "Fabrikam Inc", "Tailspin Toys", "Wide World Importers", "Adventure Works",
+        "Proseware", "Litware Inc", "Blue Yonder Airlines", "Coho Winery", "Alpine Ski House", "Woodgrove Bank"
+    };
+    private static final String[] TITLES = {
+        "Software Engineer", "Senior Software Engineer", "Data Analyst", "Staff Engineer", "Backend Developer",
+        "Engineering Manager", "QA Engineer", "Product Analyst", "Site Reliability Engineer", "Data Engineer"
+    };
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "June", "July", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final String[] VERBS = {
+        "Reduced", "Built", "Led", "Designed", "Automated", "Migrated", "Introduced", "Improved", "Owned", "Mentored"
+    };
+    private static final String[] OBJECTS = {
+        "the order service latency", "an internal metrics dashboard", "twelve services to Kubernetes",
+        "the nightly billing pipeline", "contract tests for the public API", "the quarterly compliance report",
+        "an event pipeline handling 2 million messages per day", "four junior engineers", "the search ranking model",
+        "the on-call rotation and runbooks"
+    };
+    private static final String[] RESULTS = {
+        "cutting p99 latency by 40%", "saving two days of manual work each quarter", "halving release regressions",
+        "used daily by the support and operations teams", "with zero downtime", "lowering cloud spend by 25%",
+        "raising test coverage from 45% to 80%", "across three time zones"
+    };
+    private static final String[] SKILLS = {
+        "Java", "Python", "SQL", "Go", "TypeScript", "React", "Spring Boot", "PostgreSQL", "Kafka", "Kubernetes",
+        "Docker", "AWS", "GCP", "Terraform", "Airflow", "dbt", "Snowflake", "Redis", "Git", "Linux"
+    };
+
+    private SyntheticResumeCorpus() {
+    }
+
+    /**
+     * Generate a corpus
+     * @param count Number of documents
+     * @param seed Seed; the same seed gives the same documents
+     * @return The PDFs
+     */
+    public static List<byte[]> generate(int count, long seed) throws IOException {
+        List<byte[]> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(generate(new Random(seed * 31 + i)));
+        }
+        return documents;
+    }
+
+    /**
+     * Generate one document from its own random source
+     */
+    static byte[] generate(Random random) throws IOException {
+        return new Writer(random, spec(random)).write();
+    }
+
+    /**
+     * Pick how a document looks: 60% have 1-2 pages, 30% 3-5, and 10% 6-30
+     */
+    static Spec spec(Random random) {
+        int bucket = random.nextInt(10);
+        int pages = bucket < 6 ? 1 + random.nextInt(2)
+            : bucket < 9 ? 3 + random.nextInt(3)
+            : 6 + random.nextInt(MAX_PAGES - 5);
+        int headings = random.nextInt(3);
+        return new Spec(
+            pages,
+            random.nextInt(3) == 0,
+            headings != 1,
+            headings != 0,
+            BULLETS[random.nextInt(BULLETS.length)],
+            random.nextBoolean());
+    }
+
+    /**
+     * Lays out one resume, starting new pages as the main column fills up
+     */
+    private static final class Writer {
+        private static final float PAGE_TOP = 740;
+        private static final float PAGE_BOTTOM = 60;
+        private static final float MARGIN = 60;
+        private static final float SIDEBAR_WIDTH = 140;
+        private static final float GUTTER = 30;
+        private static final float FONT_SIZE = 10;
+        private static final float LEADING = 13;
+
+        private final Random random;
+        private final Spec spec;
+        private final PDFont regular;
+        private final PDFont bold;
+        private final PDFont italic;
+        private final PDDocument document = new PDDocument();
+        private PDPageContentStream content;
+        private int pageCount;
+        private float x;
+        private float width;
+        private float y;
+
+        Writer(Random random, Spec spec) {
+            this.random = random;
+            this.spec = spec;
+            this.regular = spec.serif() ? PDType1Font.TIMES_ROMAN : PDType1Font.HELVETICA;
+            this.bold = spec.serif() ? PDType1Font.TIMES_BOLD : PDType1Font.HELVETICA_BOLD;
+            this.italic = spec.serif() ? PDType1Font.TIMES_ITALIC : PDType1Font.HELVETICA_OBLIQUE;
+        }
+
+        byte[] write() throws IOException {
+            try (document) {
+                newPage();
+                String name = pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+                String email = name.toLowerCase().replace(' ', '.').replace("'", "") + "@example.com";
+                String phone = String.format("(555) %03d-%04d", random.nextInt(1000), random.nextInt(10000));
+                String city = pick(CITIES);
+
+                float nameWidth = bold.getStringWidth(name) / 1000 * 20;
+                show(bold, 20, (PDRectangle.LETTER.getWidth() - nameWidth) / 2, name);
+                y -= 30;
+
+                float columnTop = y;
+                if (spec.twoColumns()) {
+                    // Contact details and skills down the left, everything else on the right
+                    x = MARGIN;
+                    width = SIDEBAR_WIDTH;
+                    heading("Contact");
+                    line(regular, email);
+                    line(regular, phone);
+                    line(regular, city);
+                    y -= 10;
+                    heading("Skills");
+                    for (String skill : skills(6 + random.nextInt(6))) {
+                        line(regular, skill);
+                    }
+                    y = columnTop;
+                    x = MARGIN + SIDEBAR_WIDTH + GUTTER;
+                    width = PDRectangle.LETTER.getWidth() - MARGIN - x;
+                } else {
+                    show(regular, FONT_SIZE, x, email);
+                    show(regular, FONT_SIZE, x + 180, phone);
+                    show(regular, FONT_SIZE, x + 320, city);
+                    y -= LEADING + 8;
+                }
+
+                paragraph("Software professional with " + (2 + random.nextInt(20))
+                    + " years of experience delivering reliable systems, " + pick(RESULTS) + ".");
+
+                heading("Education");
+                int graduated = 2000 + random.nextInt(23);
+                lineWithDate(bold, pick(SCHOOLS), "Sep " + (graduated - 4) + " - May " + graduated);
+                lineWithDate(regular, pick(DEGREES), "GPA 3." + random.nextInt(10));
+
+                heading(spec.capsHeadings() && random.nextBoolean() ? "Work Experience" : "Experience");
+                int year = 2024;
+                do {
+                    year = experience(year);
+                } while (!lastPageFull());
+
+                if (!spec.twoColumns()) {
+                    heading("Skills");
+                    paragraph(String.join(", ", skills(8 + random.nextInt(8))));
+                }
+
+                content.close();
+                // A fixed document ID keeps the output identical from run to run
+                byte[] id = ByteBuffer.allocate(16).putLong(random.nextLong()).putLong(random.nextLong()).array();
+                COSArray ids = new COSArray();
+                ids.add(new COSString(id));
+                ids.add(new COSString(id));
+                document.getDocument().getTrailer().setItem(COSName.ID, ids);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                document.save(out);
+                return out.toByteArray();
+            }
+        }
+
+        /**
+         * Write one job and return the year it started
+         */
+        private int experience(int endYear) throws IOException {
+            int startYear = endYear - 1 - random.nextInt(3);
+            String dates = pick(MONTHS) + " " + startYear + " - "
+                + (endYear == 2024 ? "Present" : pick(MONTHS) + " " + endYear);
+            y -= 4;
+            lineWithDate(bold, pick(COMPANIES), dates);
+            line(italic, pick(TITLES));
+            int bullets = 2 + random.nextInt(5);
+            for (int b = 0; b < bullets; b++) {
+                bullet(pick(VERBS) + " " + pick(OBJECTS) + ", " + pick(RESULTS));
+            }
+            return startYear;
+        }
+
+        /**
+         * True once the target page count is reached and there is only room left for the skills
+         */
+        private boolean lastPageFull() {
+            return pageCount > spec.pages() || (pageCount == spec.pages() && y < PAGE_BOTTOM + 140);
+        }
+
+        private void heading(String text) throws IOException {
+            ensureRoom(3 * LEADING);
+            y -= 6;
+            line(spec.boldHeadings() ? bold : regular, spec.capsHeadings() ? text.toUpperCase() : text, 12);
+            y -= 4;
+        }
+
+        private void paragraph(String text) throws IOException {
+            for (String wrapped : wrap(text, width)) {
+                line(regular, wrapped);
+            }
+        }
+
+        private void bullet(String text) throws IOException {
+            List<String> wrapped = wrap(text, width - 12);
+            for (int i = 0; i < wrapped.size(); i++) {
+                ensureRoom(LEADING);
+                if (i == 0) {
+                    show(regular, FONT_SIZE, x + 2, spec.bullet());
+                }
+                show(regular, FONT_SIZE, x + 12, wrapped.get(i));
+                y -= LEADING;
+            }
+        }
+
+        private void line(PDFont font, String text) throws IOException {
+            line(font, text, FONT_SIZE);
+        }
+
+        private void line(PDFont font, String text, float size) throws IOException {
+            ensureRoom(size + 3);
+            show(font, size, x, text);
+            y -= size + 3;
+        }
+
+        private void lineWithDate(PDFont font, String text, String date) throws IOException {
+            ensureRoom(LEADING);
+            show(font, FONT_SIZE, x, text);
+            float dateWidth = regular.getStringWidth(date) / 1000 * FONT_SIZE;
+            show(regular, FONT_SIZE, x + width - dateWidth, date);
+            y -= LEADING;
+        }
+
+        private List<String> wrap(String text, float maxWidth) throws IOException {
+            List<String> lines = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            for (String word : text.split(" ")) {
+                String candidate = current.isEmpty() ? word : current + " " + word;
+                if (!current.isEmpty() && regular.getStringWidth(candidate) / 1000 * FONT_SIZE > maxWidth) {
+                    lines.add(current.toString());
+                    current.setLength(0);
+                    current.append(word);
+                } else {
+                    current.setLength(0);
+                    current.append(candidate);
+                }
+            }
+            if (!current.isEmpty()) {
+                lines.add(current.toString());
+            }
+            return lines;
+        }
+
+        private void ensureRoom(float height) throws IOException {
+            if (y - height < PAGE_BOTTOM) {
+                newPage();
+            }
+        }
+
+        private void newPage() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+            PDPage page = new PDPage(PDRectangle.LETTER);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            pageCount++;
+            y = PAGE_TOP;
+            // The sidebar only runs down the first page, later pages use the full width
+            x = MARGIN;
+            width = PDRectangle.LETTER.getWidth() - 2 * MARGIN;
+        }
+
+        private void show(PDFont font, float size, float atX, String text) throws IOException {
+            content.beginText();
+            content.setFont(font, size);
+            content.newLineAtOffset(atX, y);
+            content.showText(text);
+            content.endText();
+        }
+
+        private List<String> skills(int count) {
+            List<String> skills = new ArrayList<>(List.of(SKILLS));
+            Collections.shuffle(skills, random);
+            return skills.subList(0, Math.min(count, skills.size()));
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+    }
+}
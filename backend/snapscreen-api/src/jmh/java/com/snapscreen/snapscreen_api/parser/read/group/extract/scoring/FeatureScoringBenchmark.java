@@ -0,0 +1,102 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Scores a section's worth of text items with a compiled FeatureScorer, whose base features
+ * are summed from the precomputed FeatureBits, against the per-predicate scoring it replaced,
+ * where every base feature scanned the item's text itself. The other features (patterns,
+ * dictionaries) are the same on both sides.
+ *
+ * Lives in the scoring package to read the bit masks of the compiled predicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class FeatureScoringBenchmark {
+
+    private static final List<String> TEXTS = List.of(
+        "Jane Doe", "SOFTWARE ENGINEER", "jane.doe@example.com", "(555) 123-4567", "Seattle, WA",
+        "https://github.com/janedoe", "Summary", "Engineer who builds reliable parsing pipelines.",
+        "EXPERIENCE", "Senior Software Engineer", "Acme Corp", "Jan 2020 - Present",
+        "Led the migration of the billing platform to Kubernetes, cutting costs by 30%",
+        "Software Engineer", "Globex, Inc.", "Jun 2016 - Dec 2019", "Summer 2015",
+        "EDUCATION", "University of Washington", "Bachelor of Science in Computer Science",
+        "GPA 3.8", "3.8", "Fall 2012 - Spring 2016", "SKILLS", "Java, Kotlin, SQL, Kubernetes");
+
+    // The scoring it replaced, one predicate per base feature
+    private static final Pattern HAS_LETTER = Pattern.compile(".*[a-zA-Z].*");
+    private static final Pattern HAS_NUMBER = Pattern.compile(".*[0-9].*");
+    private static final Pattern YEAR = Pattern.compile("(?:19|20)\\d{2}");
+    private static final DictionaryMatcher MONTHS = DictionaryMatcher.of(List.of(
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"));
+    private static final DictionaryMatcher SEASONS = DictionaryMatcher.of(List.of("Spring", "Summer", "Fall", "Winter"));
+    private static final Map<Long, FeaturePredicate> PER_PREDICATE = Map.of(
+        FeatureBits.BOLD, TextItem::isBold,
+        FeatureBits.HAS_LETTER, textItem -> HAS_LETTER.matcher(textItem.getText()).matches(),
+        FeatureBits.HAS_NUMBER, textItem -> HAS_NUMBER.matcher(textItem.getText()).matches(),
+        FeatureBits.HAS_COMMA, textItem -> textItem.getText().contains(","),
+        FeatureBits.ALL_UPPERCASE, textItem -> {
+            String text = textItem.getText();
+            return !text.equals(text.toLowerCase()) && text.equals(text.toUpperCase());
+        },
+        FeatureBits.HAS_YEAR, textItem -> YEAR.matcher(textItem.getText()).find(),
+        FeatureBits.HAS_MONTH, textItem -> MONTHS.containsAny(textItem.getText()),
+        FeatureBits.HAS_SEASON, textItem -> SEASONS.containsAny(textItem.getText()),
+        FeatureBits.HAS_PRESENT, textItem -> textItem.getText().contains("Present"));
+
+    @Param({"profile.name", "date", "education.school", "experience.jobTitle"})
+    public String scorerName;
+
+    @Param({"500"})
+    public int items;
+
+    private final FeatureScoringSystem featureScoringSystem = new FeatureScoringSystem();
+    private FeatureScorer scorer;
+    private List<FeatureScoringSystem.FeatureSet> perPredicateFeatureSets;
+    private List<TextItem> textItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scorer = new FeatureRules(new ClassPathResource("parser/feature-rules.json")).scorer(scorerName);
+
+        perPredicateFeatureSets = new ArrayList<>();
+        for (FeatureScoringSystem.FeatureSet featureSet : scorer.getFeatureSets()) {
+            FeaturePredicate predicate = featureSet.getPredicate();
+            if (predicate instanceof FeatureBits.BitPredicate bitPredicate) {
+                predicate = PER_PREDICATE.get(bitPredicate.mask);
+            }
+            perPredicateFeatureSets.add(new FeatureScoringSystem.FeatureSet(predicate, featureSet.getScore()));
+        }
+
+        textItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            String text = TEXTS.get(i % TEXTS.size());
+            textItems.add(new TextItem(text, 50, 300, 700 - i, i % 7 == 0, true, 1));
+        }
+        // As ResumeParser does once per document
+        FeatureBits.annotate(textItems);
+    }
+
+    @Benchmark
+    public String withFeatureBits() {
+        return featureScoringSystem.getTextWithHighestFeatureScore(textItems, scorer);
+    }
+
+    @Benchmark
+    public String perPredicate() {
+        return featureScoringSystem.getTextWithHighestFeatureScore(
+            textItems, perPredicateFeatureSets, scorer.isReturnEmptyIfHighestScoreNotPositive());
+    }
+}
@@ -0,0 +1,95 @@
+package com.snapscreen.snapscreen_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableScheduling
+public class ParserConfig {
+
+    @Value("${parser.page-threads:0}")
+    private int pageThreads;
+
+    @Value("${parser.extract-threads:0}")
+    private int extractThreads;
+
+    @Value("${parser.job-threads:0}")
+    private int jobThreads;
+
+    @Value("${parser.job-queue-capacity:32}")
+    private int jobQueueCapacity;
+
+    @Value("${parser.bulk-threads:0}")
+    private int bulkThreads;
+
+    /**
+     * Bounded pool used to group the pages of a single resume in parallel.
+     * Defaults to one thread per available core.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService parserPageExecutor() {
+        int threads = pageThreads > 0 ? pageThreads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, namedDaemonThreads("parser-page-"));
+    }
+
+    /**
+     * Bounded pool used to run the section extractors of a single resume concurrently.
+     * Platform threads are reused across requests, so the scorers' per-thread buffers stay warm.
+     * Defaults to one thread per available core.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService parserExtractExecutor() {
+        int threads = extractThreads > 0 ? extractThreads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, namedDaemonThreads("parser-extract-"));
+    }
+
+    /**
+     * Bounded pool with a bounded queue that runs the parse jobs submitted through the API,
+     * so parsing never runs on (or ties up) the web server's request threads.
+     * Rejects new jobs once the queue is full. Defaults to half the available cores.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor parserJobExecutor() {
+        int threads = jobThreads > 0 ? jobThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(jobQueueCapacity), namedDaemonThreads("parser-job-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Work-stealing pool that parses the documents of bulk requests. Each document is an
+     * independent task, so idle workers take queued documents from busy ones.
+     * Defaults to one thread per available core.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool parserBulkExecutor() {
+        int threads = bulkThreads > 0 ? bulkThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("parser-bulk-" + counter.incrementAndGet());
+            return thread;
+        }, null, true);
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -32,10 +32,12 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasAuthority("ROLE_ADMIN")
                 // Admin-only endpoints
                 .requestMatchers("/api/users").hasAuthority("ROLE_ADMIN")
                 .requestMatchers("/api/users/*/admin").hasAuthority("ROLE_ADMIN")
                 .requestMatchers("/api/users/*/claims").hasAuthority("ROLE_ADMIN")
+                .requestMatchers("/api/resumes/parse/bulk", "/api/resumes/parse/bulk/**").hasAuthority("ROLE_ADMIN")
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
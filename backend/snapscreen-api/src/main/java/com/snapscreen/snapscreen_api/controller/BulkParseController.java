@@ -0,0 +1,127 @@
+package com.snapscreen.snapscreen_api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.BulkParseService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Admin-only bulk parsing. Results are streamed as NDJSON, one line per document
+ * in the order the documents finish, each line flushed as soon as it is written.
+ */
+@RestController
+@RequestMapping("/api/resumes/parse/bulk")
+public class BulkParseController {
+
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final BulkParseService bulkParseService;
+    private final ObjectMapper objectMapper;
+
+    public BulkParseController(BulkParseService bulkParseService, ObjectMapper objectMapper) {
+        this.bulkParseService = bulkParseService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parse every PDF in a ZIP archive
+     * @param file The ZIP archive
+     * @param fields The parts of the resumes to extract, all of them if omitted
+     * @return A stream of NDJSON results
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> parseZip(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "fields", required = false) List<ResumeField> fields) throws IOException {
+
+        if (file.isEmpty()) {
+            return badRequest("File is empty");
+        }
+        String filename = file.getOriginalFilename();
+        if (filename == null || !filename.toLowerCase().endsWith(".zip")) {
+            return badRequest("Invalid file type. Supported types: ZIP");
+        }
+
+        InputStream zip = file.getInputStream();
+        Set<ResumeField> requestedFields = requestedFields(fields);
+        StreamingResponseBody body = out -> {
+            try (zip) {
+                bulkParseService.parseAll(bulkParseService.fromZip(zip), requestedFields, result -> write(result, out));
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Parse resumes already stored in S3
+     * @param request Object with the S3 "objectKeys" to parse and optionally the "fields" to extract
+     * @return A stream of NDJSON results
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> parseObjects(@RequestBody BulkParseRequest request) {
+        if (request.objectKeys() == null || request.objectKeys().isEmpty()) {
+            return badRequest("No object keys given");
+        }
+
+        List<String> objectKeys = List.copyOf(request.objectKeys());
+        Set<ResumeField> requestedFields = requestedFields(request.fields());
+        StreamingResponseBody body = out ->
+            bulkParseService.parseAll(bulkParseService.fromS3(objectKeys), requestedFields, result -> write(result, out));
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    public record BulkParseRequest(List<String> objectKeys, List<ResumeField> fields) {
+    }
+
+    private void write(BulkParseService.Result result, OutputStream out) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("name", result.name());
+        line.put("status", result.succeeded() ? "SUCCEEDED" : "FAILED");
+        line.put("runMillis", result.runMillis());
+        if (result.succeeded()) {
+            line.put("result", result.resume());
+        } else {
+            line.put("error", result.error());
+        }
+
+        // writeValue(OutputStream) would close the response stream after the first line
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * A 400 response; it has to be a streaming body too, Spring only streams
+     * ResponseEntity return types declared with a StreamingResponseBody body
+     */
+    private ResponseEntity<StreamingResponseBody> badRequest(String error) {
+        byte[] body = toJson(Map.of("error", error));
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(out -> out.write(body));
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write JSON", e);
+        }
+    }
+
+    private static Set<ResumeField> requestedFields(List<ResumeField> fields) {
+        return fields == null || fields.isEmpty() ? ResumeField.all() : EnumSet.copyOf(fields);
+    }
+}
@@ -1,6 +1,10 @@
 package com.snapscreen.snapscreen_api.controller;
 
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.ResumeParseService;
 import com.snapscreen.snapscreen_api.service.S3StorageService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -11,21 +15,31 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/resumes")
 public class ResumeController {
 
     private final S3StorageService s3StorageService;
+    private final ResumeParseService resumeParseService;
+    private final long maxUploadBytes;
 
-    public ResumeController(S3StorageService s3StorageService) {
+    public ResumeController(
+            S3StorageService s3StorageService,
+            ResumeParseService resumeParseService,
+            @Value("${resume.max-upload-bytes:10485760}") long maxUploadBytes) {
         this.s3StorageService = s3StorageService;
+        this.resumeParseService = resumeParseService;
+        this.maxUploadBytes = maxUploadBytes;
     }
 
     /**
-     * Upload a resume file for a user (replaces any existing resume)
+     * Upload a resume file for a user (replaces any existing resume).
+     * PDFs are also queued for parsing while they are uploaded, see /api/resumes/parse/{jobId}.
      * @param file The resume file to upload
-     * @return Object with the S3 object key and a pre-signed URL for the uploaded file
+     * @return Object with the S3 object key, a pre-signed URL for the uploaded file and,
+     *         for PDFs, the parse job ID unless the parse queue is full
      */
     @PostMapping("/upload")
     public ResponseEntity<Map<String, String>> uploadResume(
@@ -39,6 +53,11 @@ public class ResumeController {
             if (file.isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
             }
+            // The multipart limits are set for bulk archives, a single resume has its own
+            if (file.getSize() > maxUploadBytes) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                        .body(Map.of("error", "File is larger than " + maxUploadBytes + " bytes"));
+            }
             
             // Check file type
             String fileExtension = getFileExtension(file.getOriginalFilename());
@@ -48,8 +67,25 @@ public class ResumeController {
                 ));
             }
             
-            // Upload the file (this will replace any existing resume)
-            String objectKey = s3StorageService.uploadResume(userId, file);
+            // Upload the file (this will replace any existing resume). A PDF is read once and the
+            // same bytes go to the parser, which runs on its own pool while the upload is in flight
+            String objectKey;
+            String parseJobId = null;
+            if (fileExtension.equals(".pdf")) {
+                byte[] content = file.getBytes();
+                parseJobId = submitParse(userId, content);
+                try {
+                    objectKey = s3StorageService.uploadResume(userId, file.getOriginalFilename(), content);
+                } catch (RuntimeException e) {
+                    // No point parsing a resume that was not stored, give its queue slot back
+                    if (parseJobId != null) {
+                        resumeParseService.cancel(userId, parseJobId);
+                    }
+                    throw e;
+                }
+            } else {
+                objectKey = s3StorageService.uploadResume(userId, file);
+            }
             
             // Get a pre-signed URL (valid for 60 minutes)
             String presignedUrl = s3StorageService.getPreSignedUrl(objectKey, 60);
@@ -61,6 +97,9 @@ public class ResumeController {
                 response.put("url", presignedUrl);
             }
             response.put("filename", file.getOriginalFilename());
+            if (parseJobId != null) {
+                response.put("parseJobId", parseJobId);
+            }
             
             return ResponseEntity.ok(response);
             
@@ -136,6 +175,19 @@ public class ResumeController {
         return ResponseEntity.ok().build();
     }
     
+    /**
+     * Queue an uploaded PDF for parsing
+     * @return The parse job ID, or null if the parse queue is full; the upload goes ahead either way
+     */
+    private String submitParse(String userId, byte[] content) {
+        try {
+            ParseJob job = resumeParseService.submit(userId, content, ResumeField.all());
+            return job.getId();
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+    
     /**
      * Get the file extension from a filename
      * @param filename The filename
@@ -0,0 +1,118 @@
+package com.snapscreen.snapscreen_api.controller;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.ResumeParseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/resumes/parse")
+public class ResumeParseController {
+
+    private final ResumeParseService resumeParseService;
+    private final long retryAfterSeconds;
+    private final long maxUploadBytes;
+
+    public ResumeParseController(
+            ResumeParseService resumeParseService,
+            @Value("${parser.job-retry-after-seconds:5}") long retryAfterSeconds,
+            @Value("${resume.max-upload-bytes:10485760}") long maxUploadBytes) {
+        this.resumeParseService = resumeParseService;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.maxUploadBytes = maxUploadBytes;
+    }
+
+    /**
+     * Queue a PDF resume for parsing
+     * @param file The PDF resume to parse
+     * @param fields The parts of the resume to extract, all of them if omitted
+     * @return 202 with the job ID, 413 if the file is over resume.max-upload-bytes,
+     *         or 429 with Retry-After if too many parses are queued
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> submitParse(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "fields", required = false) List<ResumeField> fields,
+            Authentication authentication) {
+
+        String userId = (String) authentication.getPrincipal();
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
+        }
+        if (file.getSize() > maxUploadBytes) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of("error", "File is larger than " + maxUploadBytes + " bytes"));
+        }
+        String filename = file.getOriginalFilename();
+        if (filename == null || !filename.toLowerCase().endsWith(".pdf")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid file type. Supported types: PDF"));
+        }
+
+        Set<ResumeField> requestedFields = fields == null || fields.isEmpty()
+            ? ResumeField.all() : EnumSet.copyOf(fields);
+
+        try {
+            ParseJob job = resumeParseService.submit(userId, file.getBytes(), requestedFields);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/api/resumes/parse/" + job.getId())
+                    .body(Map.of("jobId", job.getId(), "status", job.getStatus()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(Map.of("error", "Too many resumes are being parsed, try again later"));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to read file: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the status of a parse job, and its result once it has succeeded
+     * @param jobId The job ID returned when the parse was submitted
+     * @return The job status and timings, 404 if the job is unknown or not the caller's
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getParseJob(@PathVariable String jobId, Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+
+        Optional<ParseJob> jobOpt = resumeParseService.getJob(userId, jobId);
+        if (jobOpt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Read the status once, the job may finish while the response is built
+        ParseJob job = jobOpt.get();
+        ParseJob.Status status = job.getStatus();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", job.getId());
+        result.put("status", status);
+        result.put("submittedAt", job.getSubmittedAt());
+        result.put("queueWaitMillis", job.getQueueWaitMillis());
+        result.put("runMillis", job.getRunMillis());
+        if (status == ParseJob.Status.SUCCEEDED) {
+            result.put("finishedAt", job.getFinishedAt());
+            result.put("result", job.getResult());
+        } else if (status == ParseJob.Status.FAILED) {
+            result.put("finishedAt", job.getFinishedAt());
+            result.put("error", job.getError());
+        }
+
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,141 @@
+package com.snapscreen.snapscreen_api.model.resumeparser;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An asynchronous resume parse submitted through the API.
+ * Written by the parse worker and read by status requests, so all state is volatile.
+ */
+public class ParseJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id;
+    private final String ownerId;
+    private final Instant submittedAt;
+    private final long submittedNanos;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile Instant finishedAt;
+    private volatile ParsedResume result;
+    private volatile String error;
+
+    public ParseJob(String id, String ownerId) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.submittedAt = Instant.now();
+        this.submittedNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the job as picked up by a worker
+     */
+    public void start() {
+        startedNanos = System.nanoTime();
+        status = Status.RUNNING;
+    }
+
+    /**
+     * Mark the job as done with a result
+     */
+    public void succeed(ParsedResume result) {
+        this.result = result;
+        finish(Status.SUCCEEDED);
+    }
+
+    /**
+     * Mark the job as done with an error
+     */
+    public void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status finalStatus) {
+        finishedNanos = System.nanoTime();
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isDone() {
+        Status current = status;
+        return current == Status.SUCCEEDED || current == Status.FAILED;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return The System.nanoTime() at which the job was submitted
+     */
+    public long getSubmittedNanos() {
+        return submittedNanos;
+    }
+
+    /**
+     * @return The System.nanoTime() at which a worker picked the job up, only meaningful once it has started
+     */
+    public long getStartedNanos() {
+        return startedNanos;
+    }
+
+    /**
+     * @return The System.nanoTime() at which the job finished, only meaningful once it is done
+     */
+    public long getFinishedNanos() {
+        return finishedNanos;
+    }
+
+    public ParsedResume getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return Time spent waiting for a worker so far, in milliseconds
+     */
+    public long getQueueWaitMillis() {
+        long started = status == Status.QUEUED ? System.nanoTime() : startedNanos;
+        return TimeUnit.NANOSECONDS.toMillis(started - submittedNanos);
+    }
+
+    /**
+     * @return Time spent parsing so far, in milliseconds; 0 while still queued
+     */
+    public long getRunMillis() {
+        Status current = status;
+        if (current == Status.QUEUED) {
+            return 0;
+        }
+        long end = current == Status.RUNNING ? System.nanoTime() : finishedNanos;
+        return TimeUnit.NANOSECONDS.toMillis(end - startedNanos);
+    }
+}
@@ -14,6 +14,7 @@ public class ResumeLine {
     private float y;              // Y-coordinate of the line
     private int pageNumber;       // Page number this line appears on
     private boolean isSectionTitle = false;  // Whether this line is a section title
+    private String content;       // Cached line content, null until computed or after the items change
     
     // Default constructor
     public ResumeLine() {
@@ -29,14 +30,20 @@ public class ResumeLine {
     // Add a text item to this line
     public void addTextItem(TextItem item) {
         textItems.add(item);
+        content = null;
     }
     
-    // Get the complete text content of this line
+    // Get the complete text content of this line, computed once since extractors ask for it repeatedly
     public String getLineContent() {
-        return textItems.stream()
-                .sorted((a, b) -> Float.compare(a.getX1(), b.getX1()))
-                .map(TextItem::getText)
-                .collect(Collectors.joining(" ")).trim();
+        String cached = content;
+        if (cached == null) {
+            cached = textItems.stream()
+                    .sorted((a, b) -> Float.compare(a.getX1(), b.getX1()))
+                    .map(TextItem::getText)
+                    .collect(Collectors.joining(" ")).trim();
+            content = cached;
+        }
+        return cached;
     }
     
     // Check if this line is likely a section title
@@ -91,6 +98,7 @@ public class ResumeLine {
     
     public void setTextItems(List<TextItem> textItems) {
         this.textItems = textItems;
+        this.content = null;
     }
     
     public float getY() {
@@ -128,6 +136,7 @@ public class ResumeLine {
         this.textItems.clear();
         TextItem item = new TextItem(text, 0, 0, 0, false, false, this.pageNumber);
         this.textItems.add(item);
+        this.content = null;
     }
     
     @Override
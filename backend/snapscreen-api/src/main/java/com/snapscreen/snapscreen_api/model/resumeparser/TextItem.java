@@ -13,6 +13,7 @@ public class TextItem {
     private boolean isBold;      // Whether the text is bold
     private boolean isNewLine;   // Whether the text starts a new line
     private int pageNumber;      // The page number this text appears on
+    private volatile long featureBits; // Cached parser feature bitmask, 0 until computed
     
     // Default constructor
     public TextItem() {
@@ -70,6 +71,7 @@ public class TextItem {
     
     public void setText(String text) {
         this.text = text;
+        this.featureBits = 0;
     }
     
     public float getX1() {
@@ -102,6 +104,7 @@ public class TextItem {
     
     public void setBold(boolean bold) {
         isBold = bold;
+        this.featureBits = 0;
     }
     
     public boolean isNewLine() {
@@ -120,6 +123,14 @@ public class TextItem {
         this.pageNumber = pageNumber;
     }
     
+    public long getFeatureBits() {
+        return featureBits;
+    }
+    
+    public void setFeatureBits(long featureBits) {
+        this.featureBits = featureBits;
+    }
+    
     @Override
     public String toString() {
         return "TextItem{" +
@@ -0,0 +1,89 @@
+package com.snapscreen.snapscreen_api.model.resumeparser.attributes;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+
+/**
+ * A structured start/end period of an education or experience entry.
+ * The raw text of both ends stays available as the entry's startDate and endDate.
+ */
+public class DateRange implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How precisely a date was written. Seasons are mapped to their first month.
+     */
+    public enum Precision {
+        YEAR,
+        SEASON,
+        MONTH
+    }
+
+    private YearMonth start;
+    private YearMonth end;
+    private boolean ongoing;
+    private Precision precision;
+
+    // Default constructor
+    public DateRange() {
+    }
+
+    public DateRange(YearMonth start, YearMonth end, boolean ongoing, Precision precision) {
+        this.start = start;
+        this.end = end;
+        this.ongoing = ongoing;
+        this.precision = precision;
+    }
+
+    // Getters and setters
+    public YearMonth getStart() {
+        return start;
+    }
+
+    public void setStart(YearMonth start) {
+        this.start = start;
+    }
+
+    /**
+     * @return The end of the period, null if it is ongoing or was not given
+     */
+    public YearMonth getEnd() {
+        return end;
+    }
+
+    public void setEnd(YearMonth end) {
+        this.end = end;
+    }
+
+    /**
+     * @return Whether the period runs until the present
+     */
+    public boolean isOngoing() {
+        return ongoing;
+    }
+
+    public void setOngoing(boolean ongoing) {
+        this.ongoing = ongoing;
+    }
+
+    /**
+     * @return The coarsest precision of the dates in the range
+     */
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    public void setPrecision(Precision precision) {
+        this.precision = precision;
+    }
+
+    @Override
+    public String toString() {
+        return "DateRange{" +
+                "start=" + start +
+                ", end=" + (ongoing ? "present" : end) +
+                ", precision=" + precision +
+                '}';
+    }
+}
@@ -17,6 +17,7 @@ public class Education implements Serializable {
     private String fieldOfStudy;
     private String startDate;
     private String endDate;
+    private DateRange dateRange;
     private String gpa;
     private String location;
     private List<String> activities;
@@ -69,6 +70,14 @@ public class Education implements Serializable {
         this.endDate = endDate;
     }
     
+    public DateRange getDateRange() {
+        return dateRange;
+    }
+    
+    public void setDateRange(DateRange dateRange) {
+        this.dateRange = dateRange;
+    }
+    
     public String getGpa() {
         return gpa;
     }
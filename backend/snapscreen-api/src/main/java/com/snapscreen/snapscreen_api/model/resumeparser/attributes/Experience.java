@@ -12,6 +12,7 @@ public class Experience implements Serializable {
     private String location;
     private String startDate;
     private String endDate;
+    private DateRange dateRange;
     private String description;
     
     private List<String> responsibilities;
@@ -62,6 +63,14 @@ public class Experience implements Serializable {
         this.endDate = endDate;
     }
     
+    public DateRange getDateRange() {
+        return dateRange;
+    }
+    
+    public void setDateRange(DateRange dateRange) {
+        this.dateRange = dateRange;
+    }
+    
     public String getDescription() {
         return description;
     }
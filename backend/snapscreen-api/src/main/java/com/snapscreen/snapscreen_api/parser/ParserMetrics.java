@@ -0,0 +1,120 @@
+package com.snapscreen.snapscreen_api.parser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the parsing pipeline, exported through the actuator metrics endpoint:
+ * <ul>
+ *   <li>resume.parser.stage: time per stage, tagged stage=read|lines|sections|extract</li>
+ *   <li>resume.parser.extractor: time per extractor, tagged extractor=profile|education|experience|skills</li>
+ *   <li>resume.parser.document.pages / .text.items / .lines / .sections: size of each parsed document</li>
+ *   <li>resume.parser.failures: failed parses, tagged with the stage and exception that failed them</li>
+ * </ul>
+ * Timers publish percentile histograms so percentiles can be aggregated across instances.
+ * Meters that are known up front are registered once; the hot path only looks them up in enum maps.
+ */
+@Component
+public class ParserMetrics {
+
+    /**
+     * The stages of a parse, in order
+     */
+    public enum Stage {
+        READ, LINES, SECTIONS, EXTRACT;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<ResumeField, Timer> extractorTimers = new EnumMap<>(ResumeField.class);
+    private final DistributionSummary pages;
+    private final DistributionSummary textItems;
+    private final DistributionSummary lines;
+    private final DistributionSummary sections;
+
+    public ParserMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("resume.parser.stage")
+                .description("Time spent in each stage of parsing a resume")
+                .tag("stage", stage.tag())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        for (ResumeField field : ResumeField.values()) {
+            extractorTimers.put(field, Timer.builder("resume.parser.extractor")
+                .description("Time spent in each section extractor")
+                .tag("extractor", field.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+        pages = documentSummary("resume.parser.document.pages", "Pages read per resume", "pages");
+        textItems = documentSummary("resume.parser.document.text.items", "Text items read per resume", "items");
+        lines = documentSummary("resume.parser.document.lines", "Lines grouped per resume", "lines");
+        sections = documentSummary("resume.parser.document.sections", "Sections found per resume", "sections");
+    }
+
+    /**
+     * Record how long a stage took
+     * @param stage The stage that just finished
+     * @param startNanos System.nanoTime() when the stage started
+     */
+    public void recordStage(Stage stage, long startNanos) {
+        stageTimers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run an extractor and record how long it took, whether or not it succeeded
+     * @param field The part of the resume the extractor fills in
+     * @param extractor The extraction to run
+     * @return What the extractor returned
+     */
+    public <T> T timeExtractor(ResumeField field, Supplier<T> extractor) {
+        return extractorTimers.get(field).record(extractor);
+    }
+
+    /**
+     * Record the size of a parsed document
+     */
+    public void recordDocument(int pageCount, int textItemCount, int lineCount, int sectionCount) {
+        pages.record(pageCount);
+        textItems.record(textItemCount);
+        lines.record(lineCount);
+        sections.record(sectionCount);
+    }
+
+    /**
+     * Count a failed parse
+     * @param stage The stage that failed
+     * @param cause Why it failed
+     */
+    public void recordFailure(Stage stage, Throwable cause) {
+        // Failures are rare, so the counter is looked up (and created on first use) here
+        Counter.builder("resume.parser.failures")
+            .description("Resumes that failed to parse")
+            .tag("stage", stage.tag())
+            .tag("exception", cause.getClass().getSimpleName())
+            .register(registry)
+            .increment();
+    }
+
+    private DistributionSummary documentSummary(String name, String description, String baseUnit) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(baseUnit)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
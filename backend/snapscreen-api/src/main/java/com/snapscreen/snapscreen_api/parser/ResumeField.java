@@ -0,0 +1,22 @@
+package com.snapscreen.snapscreen_api.parser;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Parts of a resume a caller can ask the parser for.
+ * Extractors, and where possible pages, that no requested field needs are skipped.
+ */
+public enum ResumeField {
+    PROFILE,
+    EDUCATION,
+    EXPERIENCE,
+    SKILLS;
+
+    /**
+     * Every field, i.e. a full parse
+     */
+    public static Set<ResumeField> all() {
+        return EnumSet.allOf(ResumeField.class);
+    }
+}
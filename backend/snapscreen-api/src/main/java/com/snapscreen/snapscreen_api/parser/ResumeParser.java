@@ -4,15 +4,24 @@ import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
+import com.snapscreen.snapscreen_api.parser.ParserMetrics.Stage;
+import com.snapscreen.snapscreen_api.parser.read.ParseArena;
 import com.snapscreen.snapscreen_api.parser.read.PdfReader;
+import com.snapscreen.snapscreen_api.parser.read.TextItemIndex;
 import com.snapscreen.snapscreen_api.parser.read.group.LineGrouper;
 import com.snapscreen.snapscreen_api.parser.read.group.SectionGrouper;
 import com.snapscreen.snapscreen_api.parser.read.group.extract.ResumeExtractor;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureBits;
 
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Main resume parser that orchestrates the parsing process.
@@ -21,6 +30,9 @@ import java.util.Map;
  * 2. Group text items into lines
  * 3. Group lines into sections
  * 4. Extract resume from sections
+ *
+ * The text items, lines and lists of each parse come from the calling thread's ParseArena
+ * and are recycled by the next parse on that thread; only the ParsedResume is returned.
  */
 @Component
 public class ResumeParser {
@@ -28,17 +40,20 @@ public class ResumeParser {
     private final LineGrouper lineGrouper;
     private final SectionGrouper sectionGrouper;
     private final ResumeExtractor resumeExtractor;
+    private final ParserMetrics metrics;
 
     public ResumeParser(
         PdfReader pdfReader,
         LineGrouper lineGrouper,
         SectionGrouper sectionGrouper,
-        ResumeExtractor resumeExtractor
+        ResumeExtractor resumeExtractor,
+        ParserMetrics metrics
     ) {
         this.pdfReader = pdfReader;
         this.lineGrouper = lineGrouper;
         this.sectionGrouper = sectionGrouper;
         this.resumeExtractor = resumeExtractor;
+        this.metrics = metrics;
     }
 
     /**
@@ -47,23 +62,170 @@ public class ResumeParser {
      * @return Parsed Resume object
      */
     public ParsedResume parseResumeFromPdf(String fileUrl) {
-        // Step 1: Read PDF into text items
+        return parseResumeFromPdf(fileUrl, ResumeField.all());
+    }
+
+    /**
+     * Parse only the requested parts of a resume from a PDF file
+     * @param fileUrl URL of the PDF file to parse
+     * @param fields The parts to extract; the others keep their empty defaults
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(String fileUrl, Set<ResumeField> fields) {
         java.io.File pdfFile = new java.io.File(fileUrl);
-        List<TextItem> textItems;
+        return parse(stopAfterPage -> pdfReader.extractTextFromPdf(pdfFile, stopAfterPage), "file: " + fileUrl, fields);
+    }
+
+    /**
+     * Parse a resume from the bytes of a PDF, e.g. an uploaded file, without a temp file
+     * @param pdfBytes The PDF content, read in place
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(byte[] pdfBytes) {
+        return parseResumeFromPdf(pdfBytes, ResumeField.all());
+    }
+
+    /**
+     * Parse only the requested parts of a resume from the bytes of a PDF
+     * @param pdfBytes The PDF content, read in place
+     * @param fields The parts to extract; the others keep their empty defaults
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(byte[] pdfBytes, Set<ResumeField> fields) {
+        return parse(stopAfterPage -> pdfReader.extractTextFromPdf(pdfBytes, stopAfterPage), "from bytes", fields);
+    }
+
+    /**
+     * Parse a resume from a buffer holding a PDF, e.g. a read-only or memory-mapped one
+     * @param pdfBuffer The PDF content from the buffer's position to its limit, read in place
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(ByteBuffer pdfBuffer) {
+        return parseResumeFromPdf(pdfBuffer, ResumeField.all());
+    }
+
+    /**
+     * Parse only the requested parts of a resume from a buffer holding a PDF
+     * @param pdfBuffer The PDF content from the buffer's position to its limit, read in place
+     * @param fields The parts to extract; the others keep their empty defaults
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(ByteBuffer pdfBuffer, Set<ResumeField> fields) {
+        return parse(stopAfterPage -> pdfReader.extractTextFromPdf(pdfBuffer, stopAfterPage), "from buffer", fields);
+    }
+
+    /**
+     * Parse a resume from a PDF stream, e.g. an S3 object stream. The stream is not closed.
+     * @param pdfStream The PDF content
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(InputStream pdfStream) {
+        return parseResumeFromPdf(pdfStream, ResumeField.all());
+    }
+
+    /**
+     * Parse only the requested parts of a resume from a PDF stream. The stream is not closed.
+     * @param pdfStream The PDF content
+     * @param fields The parts to extract; the others keep their empty defaults
+     * @return Parsed Resume object
+     */
+    public ParsedResume parseResumeFromPdf(InputStream pdfStream, Set<ResumeField> fields) {
+        return parse(stopAfterPage -> pdfReader.extractTextFromPdf(pdfStream, stopAfterPage), "from stream", fields);
+    }
+
+    private ParsedResume parse(PdfSource source, String description, Set<ResumeField> fields) {
+        Stage stage = Stage.READ;
+        ParseArena arena = ParseArena.open();
+        boolean succeeded = false;
         try {
-            textItems = pdfReader.extractTextFromPdf(pdfFile);
-        } catch (java.io.IOException e) {
-            throw new RuntimeException("Failed to read PDF file: " + fileUrl, e);
+            // Step 1: Read PDF into text items
+            long start = System.nanoTime();
+            List<TextItem> textItems;
+            try {
+                textItems = source.read(stopAfterPage(fields));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read PDF " + description, e);
+            }
+
+            // Build the spatial index once so extractors can answer layout queries cheaply,
+            // only the experience extractor asks them
+            TextItemIndex textItemIndex = fields.contains(ResumeField.EXPERIENCE)
+                ? TextItemIndex.build(textItems) : null;
+
+            // Compute the base feature bits once, every extractor's scorers share them
+            FeatureBits.annotate(textItems);
+            metrics.recordStage(stage, start);
+
+            // Step 2: Group text items into lines
+            stage = Stage.LINES;
+            start = System.nanoTime();
+            List<ResumeLine> lines = lineGrouper.groupIntoLines(textItems);
+            metrics.recordStage(stage, start);
+
+            // Step 3: Group lines into sections
+            stage = Stage.SECTIONS;
+            start = System.nanoTime();
+            Map<String, ResumeSection> sections = sectionGrouper.groupIntoSections(lines);
+            metrics.recordStage(stage, start);
+
+            // Step 4: Extract resume from sections
+            stage = Stage.EXTRACT;
+            start = System.nanoTime();
+            ParsedResume parsedResume = resumeExtractor.extractResumeFromSections(sections, textItemIndex, fields);
+            metrics.recordStage(stage, start);
+
+            int pages = textItems.isEmpty() ? 0 : textItems.get(textItems.size() - 1).getPageNumber();
+            metrics.recordDocument(pages, textItems.size(), lines.size(), sections.size());
+            succeeded = true;
+            return parsedResume;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(stage, e.getCause() instanceof IOException ? e.getCause() : e);
+            throw e;
+        } finally {
+            // After a failure, cancelled extractor or page tasks may still hold the intermediates
+            arena.close(succeeded);
         }
+    }
+
+    /**
+     * When only the profile is requested, reading can stop at the page where the first
+     * other section starts: the profile block is complete by then.
+     */
+    Predicate<List<TextItem>> stopAfterPage(Set<ResumeField> fields) {
+        if (!fields.equals(Set.of(ResumeField.PROFILE))) {
+            return textItems -> false;
+        }
+        return new OtherSectionStarted();
+    }
 
-        // Step 2: Group text items into lines
-        List<ResumeLine> lines = lineGrouper.groupIntoLines(textItems);
+    /**
+     * Holds once the items read so far contain a section header other than the profile.
+     * Each call only groups the page just read, together with the line the previous page
+     * ended on since the new page may continue it, so checking stays linear in the pages.
+     */
+    private final class OtherSectionStarted implements Predicate<List<TextItem>> {
+        private int itemsChecked;
+        private List<TextItem> openLine = List.of();
 
-        // Step 3: Group lines into sections
-        Map<String, ResumeSection> sections = sectionGrouper.groupIntoSections(lines);
+        @Override
+        public boolean test(List<TextItem> textItems) {
+            List<TextItem> pageItems = ParseArena.current().list(openLine);
+            pageItems.addAll(textItems.subList(itemsChecked, textItems.size()));
+            itemsChecked = textItems.size();
 
-        // Step 4: Extract resume from sections
-        ParsedResume parsedResume = resumeExtractor.extractResumeFromSections(sections);
-        return parsedResume;
+            List<ResumeLine> lines = lineGrouper.groupIntoLines(pageItems);
+            if (!lines.isEmpty()) {
+                openLine = lines.get(lines.size() - 1).getTextItems();
+            }
+            return sectionGrouper.groupIntoSections(lines).size() > 1;
+        }
+    }
+
+    /**
+     * Where the PDF comes from: reads its text items, honouring the early stop
+     */
+    @FunctionalInterface
+    private interface PdfSource {
+        List<TextItem> read(Predicate<List<TextItem>> stopAfterPage) throws IOException;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Lets PDFBox read a PDF straight from a ByteBuffer, e.g. a read-only or memory-mapped one,
+ * without copying it into a byte array first. Reads use absolute positions on a private
+ * view, so the caller's buffer position and limit are left untouched.
+ */
+final class ByteBufferRandomAccessRead implements RandomAccessRead {
+
+    private final ByteBuffer buffer;
+    private final int length;
+    private int position;
+    private boolean closed;
+
+    /**
+     * @param buffer The PDF bytes, from the buffer's position to its limit
+     */
+    ByteBufferRandomAccessRead(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        this.length = this.buffer.remaining();
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkOpen();
+        if (position >= length) {
+            return -1;
+        }
+        return buffer.get(position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int offset, int count) throws IOException {
+        checkOpen();
+        if (count == 0) {
+            return 0;
+        }
+        if (position >= length) {
+            return -1;
+        }
+        int read = Math.min(count, length - position);
+        buffer.get(position, b, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public long getPosition() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public void seek(long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IOException("Invalid position " + newPosition);
+        }
+        position = (int) Math.min(newPosition, length);
+    }
+
+    @Override
+    public long length() throws IOException {
+        checkOpen();
+        return length;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int peek() throws IOException {
+        checkOpen();
+        return position < length ? buffer.get(position) & 0xFF : -1;
+    }
+
+    @Override
+    public void rewind(int bytes) throws IOException {
+        checkOpen();
+        seek(position - bytes);
+    }
+
+    @Override
+    public byte[] readFully(int count) throws IOException {
+        checkOpen();
+        if (count > length - position) {
+            throw new EOFException("Premature end of buffer reached");
+        }
+        byte[] bytes = new byte[count];
+        buffer.get(position, bytes, 0, count);
+        position += count;
+        return bytes;
+    }
+
+    @Override
+    public boolean isEOF() throws IOException {
+        checkOpen();
+        return position >= length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkOpen();
+        return length - position;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("ByteBuffer source already closed");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least recently used cache of the text items read from each page, keyed by the page's
+ * content hash (see PageHasher). Users re-upload new versions of the same resume, which
+ * mostly differ in a page or two: the unchanged pages are then copied out of the cache
+ * instead of being read again.
+ *
+ * The cache is bounded by the total number of items it holds, set with
+ * parser.page-cache-max-items; 0 turns it off. Hits and misses are counted in
+ * resume.parser.page.cache, tagged result=hit|miss.
+ */
+@Component
+public class PageCache {
+
+    private final int maxItems;
+    private final Map<String, PageItems> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private int items;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PageCache(
+        @Value("${parser.page-cache-max-items:500000}") int maxItems,
+        MeterRegistry registry
+    ) {
+        this.maxItems = maxItems;
+        this.hits = cacheCounter(registry, "hit");
+        this.misses = cacheCounter(registry, "miss");
+        Gauge.builder("resume.parser.page.cache.items", this, PageCache::size)
+            .description("Text items held by the page cache")
+            .baseUnit("items")
+            .register(registry);
+    }
+
+    /**
+     * Whether pages are cached at all
+     */
+    boolean enabled() {
+        return maxItems > 0;
+    }
+
+    /**
+     * Copy the items of a page read before into a list
+     * @param pageHash The page's content hash
+     * @param pageNumber The page number to give the copies, the page may have moved
+     * @param arena Where the copies come from
+     * @param target The list to add the copies to
+     * @return Whether the page was cached
+     */
+    boolean copyTo(String pageHash, int pageNumber, ParseArena arena, List<TextItem> target) {
+        PageItems page;
+        synchronized (this) {
+            page = pages.get(pageHash);
+        }
+        if (page == null) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        for (int i = 0; i < page.text().length; i++) {
+            target.add(arena.textItem(page.text()[i], page.x1()[i], page.x2()[i], page.y()[i],
+                page.bold()[i], page.newLine()[i], pageNumber));
+        }
+        return true;
+    }
+
+    /**
+     * Remember the items read from a page. The cache keeps its own copy of their values.
+     * @param pageHash The page's content hash
+     * @param textItems The page's items, in reading order with new lines marked
+     */
+    void put(String pageHash, List<TextItem> textItems) {
+        if (textItems.size() > maxItems) {
+            return;
+        }
+        PageItems page = PageItems.of(textItems);
+        synchronized (this) {
+            PageItems previous = pages.put(pageHash, page);
+            items += page.text().length - (previous == null ? 0 : previous.text().length);
+            Iterator<PageItems> eldest = pages.values().iterator();
+            while (items > maxItems) {
+                items -= eldest.next().text().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Total number of items held
+     */
+    public synchronized int size() {
+        return items;
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("resume.parser.page.cache")
+            .description("Pages looked up in the page cache")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * The values of a page's items, without their page number
+     */
+    private record PageItems(String[] text, float[] x1, float[] x2, float[] y, boolean[] bold, boolean[] newLine) {
+
+        static PageItems of(List<TextItem> textItems) {
+            int n = textItems.size();
+            PageItems page = new PageItems(new String[n], new float[n], new float[n], new float[n], new boolean[n], new boolean[n]);
+            for (int i = 0; i < n; i++) {
+                TextItem item = textItems.get(i);
+                page.text[i] = item.getText();
+                page.x1[i] = item.getX1();
+                page.x2[i] = item.getX2();
+                page.y[i] = item.getY();
+                page.bold[i] = item.isBold();
+                page.newLine[i] = item.isNewLine();
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSBoolean;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageTree;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashes everything the text of a page depends on: its content streams, its resources
+ * (fonts, encodings, form XObjects) and its boxes and rotation. Two pages with the same
+ * hash read to the same text items, whichever document and page number they come from.
+ *
+ * The PDF objects are hashed canonically (dictionary keys sorted, indirect references
+ * followed), so the hash does not depend on object numbers or on where a page sits in
+ * the file. One hasher is used per document: shared streams such as embedded fonts are
+ * digested once and reused for every page.
+ */
+final class PageHasher {
+
+    private static final byte DICTIONARY = 1;
+    private static final byte ARRAY = 2;
+    private static final byte STREAM = 3;
+    private static final byte NAME = 4;
+    private static final byte STRING = 5;
+    private static final byte INTEGER = 6;
+    private static final byte FLOAT = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte NULL = 9;
+    private static final byte BACK_REFERENCE = 10;
+
+    private final Map<COSStream, byte[]> streamDigests = new IdentityHashMap<>();
+    private final byte[] buffer = new byte[8192];
+
+    /**
+     * Hash a page of the document this hasher was created for
+     * @return The SHA-256 of the page, in hex
+     */
+    String hash(PDPage page) throws IOException {
+        MessageDigest digest = sha256();
+        updateBox(digest, page.getMediaBox());
+        updateBox(digest, page.getCropBox());
+        updateInt(digest, page.getRotation());
+
+        // The objects seen so far on this page, to hash repeats and cycles as back references
+        Map<COSBase, Integer> visited = new IdentityHashMap<>();
+        update(digest, page.getCOSObject().getDictionaryObject(COSName.CONTENTS), visited);
+        // Resources may be inherited from the page tree, or missing altogether on a blank page
+        update(digest, PDPageTree.getInheritableAttribute(page.getCOSObject(), COSName.RESOURCES), visited);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, COSBase object, Map<COSBase, Integer> visited) throws IOException {
+        if (object instanceof COSObject indirect) {
+            object = indirect.getObject();
+        }
+        if (object == null) {
+            digest.update(NULL);
+            return;
+        }
+
+        Integer seen = visited.get(object);
+        if (seen != null) {
+            digest.update(BACK_REFERENCE);
+            updateInt(digest, seen);
+            return;
+        }
+
+        if (object instanceof COSStream stream) {
+            visited.put(object, visited.size());
+            digest.update(STREAM);
+            updateDictionary(digest, stream, visited);
+            digest.update(streamDigest(stream));
+        } else if (object instanceof COSDictionary dictionary) {
+            visited.put(object, visited.size());
+            digest.update(DICTIONARY);
+            updateDictionary(digest, dictionary, visited);
+        } else if (object instanceof COSArray array) {
+            visited.put(object, visited.size());
+            digest.update(ARRAY);
+            updateInt(digest, array.size());
+            for (int i = 0; i < array.size(); i++) {
+                update(digest, array.get(i), visited);
+            }
+        } else if (object instanceof COSName name) {
+            digest.update(NAME);
+            updateString(digest, name.getName());
+        } else if (object instanceof COSString string) {
+            digest.update(STRING);
+            updateInt(digest, string.getBytes().length);
+            digest.update(string.getBytes());
+        } else if (object instanceof COSInteger integer) {
+            digest.update(INTEGER);
+            updateLong(digest, integer.longValue());
+        } else if (object instanceof COSFloat number) {
+            digest.update(FLOAT);
+            updateInt(digest, Float.floatToIntBits(number.floatValue()));
+        } else if (object instanceof COSBoolean bool) {
+            digest.update(BOOLEAN);
+            digest.update(bool.getValue() ? (byte) 1 : (byte) 0);
+        } else {
+            digest.update(NULL);
+        }
+    }
+
+    private void updateDictionary(MessageDigest digest, COSDictionary dictionary, Map<COSBase, Integer> visited) throws IOException {
+        List<COSName> keys = new ArrayList<>(dictionary.keySet());
+        // The parent is the page tree, not something the page's text depends on
+        keys.remove(COSName.PARENT);
+        keys.sort(null);
+        updateInt(digest, keys.size());
+        for (COSName key : keys) {
+            updateString(digest, key.getName());
+            update(digest, dictionary.getItem(key), visited);
+        }
+    }
+
+    /**
+     * Digest of a stream's raw bytes. Image data cannot change the text, so only the
+     * image's dictionary is hashed.
+     */
+    private byte[] streamDigest(COSStream stream) throws IOException {
+        byte[] cached = streamDigests.get(stream);
+        if (cached != null) {
+            return cached;
+        }
+        MessageDigest digest = sha256();
+        if (!COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE))) {
+            try (InputStream in = stream.createRawInputStream()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        byte[] result = digest.digest();
+        streamDigests.put(stream, result);
+        return result;
+    }
+
+    private static void updateBox(MessageDigest digest, PDRectangle box) {
+        updateInt(digest, Float.floatToIntBits(box.getLowerLeftX()));
+        updateInt(digest, Float.floatToIntBits(box.getLowerLeftY()));
+        updateInt(digest, Float.floatToIntBits(box.getUpperRightX()));
+        updateInt(digest, Float.floatToIntBits(box.getUpperRightY()));
+    }
+
+    private static void updateString(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    private static void updateLong(MessageDigest digest, long value) {
+        updateInt(digest, (int) (value >>> 32));
+        updateInt(digest, (int) value);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recycles the intermediates of a parse (text items, lines and the lists holding them)
+ * between parses on the same worker thread, so a worker parsing resume after resume reuses
+ * one set of objects instead of handing the young generation a fresh set per document.
+ * Only the ParsedResume outlives a parse, and it holds none of these objects.
+ *
+ * An arena belongs to the thread that opened it. Other threads, such as the page and extract
+ * pools that work for many requests at once, get an arena that simply allocates.
+ *
+ * <pre>
+ * ParseArena arena = ParseArena.open();
+ * boolean recycle = false;
+ * try {
+ *     ... parse ...
+ *     recycle = true;
+ * } finally {
+ *     arena.close(recycle);
+ * }
+ * </pre>
+ */
+public final class ParseArena {
+
+    // Past these, a huge document allocates normally rather than growing what every worker keeps
+    static final int MAX_TEXT_ITEMS = 20_000;
+    static final int MAX_LINES = 4_000;
+    static final int MAX_LISTS = 8_000;
+
+    // Lists that grew past this are dropped on close, their arrays would pin too much memory
+    private static final int MAX_LIST_SIZE = 4_096;
+
+    private static final ThreadLocal<ParseArena> ARENAS = new ThreadLocal<>();
+
+    // Handed out when no arena is open on the thread
+    private static final ParseArena ALLOCATING = new ParseArena();
+
+    private final List<TextItem> textItems = new ArrayList<>();
+    private final List<ResumeLine> lines = new ArrayList<>();
+    private final List<ArrayList<?>> lists = new ArrayList<>();
+    private int textItemsUsed;
+    private int linesUsed;
+    private int listsUsed;
+    private boolean open;
+
+    private ParseArena() {
+    }
+
+    /**
+     * Open this thread's arena for a parse. A parse nested in another one on the same thread
+     * gets an allocating arena, so the outer parse's objects are not recycled under it.
+     * @return The arena, to be closed in a finally block when the parse ends
+     */
+    public static ParseArena open() {
+        ParseArena arena = ARENAS.get();
+        if (arena == null) {
+            arena = new ParseArena();
+            ARENAS.set(arena);
+        } else if (arena.open) {
+            return ALLOCATING;
+        }
+        arena.open = true;
+        return arena;
+    }
+
+    /**
+     * The arena of the parse running on this thread
+     * @return The open arena, or one that allocates if this thread is not running a parse
+     */
+    public static ParseArena current() {
+        ParseArena arena = ARENAS.get();
+        return arena != null && arena.open ? arena : ALLOCATING;
+    }
+
+    /**
+     * End the parse. Everything handed out since open() must be unreachable from then on.
+     * @param recycle Whether the objects handed out may be reused. Pass false when the parse
+     *                failed: cancelled pool tasks may still be reading them, so they are dropped.
+     */
+    public void close(boolean recycle) {
+        if (this == ALLOCATING) {
+            return;
+        }
+        if (recycle) {
+            for (int i = 0; i < listsUsed; i++) {
+                ArrayList<?> list = lists.get(i);
+                if (list.size() > MAX_LIST_SIZE) {
+                    lists.set(i, new ArrayList<>());
+                } else {
+                    list.clear();
+                }
+            }
+        } else {
+            textItems.clear();
+            lines.clear();
+            lists.clear();
+        }
+        textItemsUsed = 0;
+        linesUsed = 0;
+        listsUsed = 0;
+        open = false;
+    }
+
+    /**
+     * A text item holding the given values, with no feature bits computed yet
+     */
+    public TextItem textItem(String text, float x1, float x2, float y, boolean isBold, boolean isNewLine, int pageNumber) {
+        if (textItemsUsed == textItems.size()) {
+            TextItem item = new TextItem(text, x1, x2, y, isBold, isNewLine, pageNumber);
+            if (open && textItems.size() < MAX_TEXT_ITEMS) {
+                textItems.add(item);
+                textItemsUsed++;
+            }
+            return item;
+        }
+        TextItem item = textItems.get(textItemsUsed++);
+        item.setText(text);
+        item.setX1(x1);
+        item.setX2(x2);
+        item.setY(y);
+        item.setBold(isBold);
+        item.setNewLine(isNewLine);
+        item.setPageNumber(pageNumber);
+        return item;
+    }
+
+    /**
+     * A line that is not a section title; the caller sets its position and items
+     */
+    public ResumeLine line() {
+        if (linesUsed == lines.size()) {
+            ResumeLine line = new ResumeLine();
+            if (open && lines.size() < MAX_LINES) {
+                lines.add(line);
+                linesUsed++;
+            }
+            return line;
+        }
+        ResumeLine line = lines.get(linesUsed++);
+        line.setSectionTitle(false);
+        return line;
+    }
+
+    /**
+     * An empty list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> list() {
+        if (listsUsed == lists.size()) {
+            ArrayList<T> list = new ArrayList<>();
+            if (open && lists.size() < MAX_LISTS) {
+                lists.add(list);
+                listsUsed++;
+            }
+            return list;
+        }
+        return (List<T>) lists.get(listsUsed++);
+    }
+
+    /**
+     * A list holding the given elements
+     */
+    public <T> List<T> list(List<? extends T> elements) {
+        List<T> list = list();
+        list.addAll(elements);
+        return list;
+    }
+}
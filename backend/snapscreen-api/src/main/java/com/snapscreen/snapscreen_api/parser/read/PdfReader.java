@@ -1,6 +1,8 @@
 package com.snapscreen.snapscreen_api.parser.read;
 
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.pdfbox.text.TextPosition;
@@ -9,26 +11,49 @@ import org.springframework.stereotype.Component;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Extracts text content from PDF documents, preserving layout and formatting information.
  * This is equivalent to step 1 of the open-resume solution.
+ *
+ * Pages whose content hash is in the PageCache are copied from it instead of being read
+ * again, so re-reading an edited resume costs about as much as the pages that changed.
  */
 @Component
 public class PdfReader {
 
+    // Read every page
+    private static final Predicate<List<TextItem>> ALL_PAGES = textItems -> false;
+
+    private final PageCache pageCache;
+
+    public PdfReader(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
     /**
      * Extract TextItems from a PDF file
      * @param pdfFile the PDF file to extract from
      * @return List of TextItem objects with position and formatting information
      */
     public List<TextItem> extractTextFromPdf(File pdfFile) throws IOException {
+        return extractTextFromPdf(pdfFile, ALL_PAGES);
+    }
+
+    /**
+     * Extract TextItems from a PDF file, stopping early once the caller has seen enough
+     * @param pdfFile the PDF file to extract from
+     * @param stopAfterPage Tested with the items read so far after each page; no further pages are read once it holds
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(File pdfFile, Predicate<List<TextItem>> stopAfterPage) throws IOException {
         try (PDDocument document = PDDocument.load(pdfFile)) {
-            return extractTextFromDocument(document);
+            return extractTextFromDocument(document, stopAfterPage);
         }
     }
 
@@ -38,23 +63,103 @@ public class PdfReader {
      * @return List of TextItem objects with position and formatting information
      */
     public List<TextItem> extractTextFromPdf(InputStream inputStream) throws IOException {
+        return extractTextFromPdf(inputStream, ALL_PAGES);
+    }
+
+    /**
+     * Extract TextItems from a PDF input stream, stopping early once the caller has seen enough.
+     * The stream is read into memory once and is not closed.
+     * @param inputStream PDF input stream
+     * @param stopAfterPage Tested with the items read so far after each page; no further pages are read once it holds
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(InputStream inputStream, Predicate<List<TextItem>> stopAfterPage) throws IOException {
         try (PDDocument document = PDDocument.load(inputStream)) {
-            return extractTextFromDocument(document);
+            return extractTextFromDocument(document, stopAfterPage);
+        }
+    }
+
+    /**
+     * Extract TextItems from the bytes of a PDF
+     * @param pdfBytes the PDF content, read in place without copying
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(byte[] pdfBytes) throws IOException {
+        return extractTextFromPdf(pdfBytes, ALL_PAGES);
+    }
+
+    /**
+     * Extract TextItems from the bytes of a PDF, stopping early once the caller has seen enough
+     * @param pdfBytes the PDF content, read in place without copying
+     * @param stopAfterPage Tested with the items read so far after each page; no further pages are read once it holds
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(byte[] pdfBytes, Predicate<List<TextItem>> stopAfterPage) throws IOException {
+        try (PDDocument document = PDDocument.load(pdfBytes)) {
+            return extractTextFromDocument(document, stopAfterPage);
+        }
+    }
+
+    /**
+     * Extract TextItems from a buffer holding a PDF, e.g. a read-only or memory-mapped one
+     * @param pdfBuffer the PDF content from the buffer's position to its limit, read in place without copying
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(ByteBuffer pdfBuffer) throws IOException {
+        return extractTextFromPdf(pdfBuffer, ALL_PAGES);
+    }
+
+    /**
+     * Extract TextItems from a buffer holding a PDF, stopping early once the caller has seen enough
+     * @param pdfBuffer the PDF content from the buffer's position to its limit, read in place without copying
+     * @param stopAfterPage Tested with the items read so far after each page; no further pages are read once it holds
+     * @return List of TextItem objects with position and formatting information
+     */
+    public List<TextItem> extractTextFromPdf(ByteBuffer pdfBuffer, Predicate<List<TextItem>> stopAfterPage) throws IOException {
+        try (PDDocument document = load(pdfBuffer)) {
+            return extractTextFromDocument(document, stopAfterPage);
+        }
+    }
+
+    /**
+     * Load a document straight from a buffer, the way PDDocument.load does for byte arrays
+     */
+    private static PDDocument load(ByteBuffer pdfBuffer) throws IOException {
+        RandomAccessRead source = new ByteBufferRandomAccessRead(pdfBuffer);
+        try {
+            PDFParser parser = new PDFParser(source);
+            parser.parse();
+            return parser.getPDDocument();
+        } catch (IOException e) {
+            source.close();
+            throw e;
         }
     }
 
-    private List<TextItem> extractTextFromDocument(PDDocument document) throws IOException {
-        List<TextItem> textItems = new ArrayList<>();
+    private List<TextItem> extractTextFromDocument(PDDocument document, Predicate<List<TextItem>> stopAfterPage) throws IOException {
+        ParseArena arena = ParseArena.current();
+        List<TextItem> textItems = arena.list();
+        PageHasher hasher = pageCache.enabled() ? new PageHasher() : null;
         
         for (int i = 0; i < document.getNumberOfPages(); i++) {
             int pageNumber = i + 1;
             
-            CustomTextStripper stripper = new CustomTextStripper(pageNumber);
-            stripper.setStartPage(pageNumber);
-            stripper.setEndPage(pageNumber);
-            stripper.getText(document);
-            
-            textItems.addAll(stripper.getTextItems());
+            String pageHash = hasher != null ? hasher.hash(document.getPage(i)) : null;
+            if (pageHash == null || !pageCache.copyTo(pageHash, pageNumber, arena, textItems)) {
+                CustomTextStripper stripper = new CustomTextStripper(pageNumber, arena);
+                stripper.setStartPage(pageNumber);
+                stripper.setEndPage(pageNumber);
+                stripper.getText(document);
+                
+                List<TextItem> pageItems = stripper.getTextItems();
+                textItems.addAll(pageItems);
+                if (pageHash != null) {
+                    pageCache.put(pageHash, pageItems);
+                }
+            }
+            if (stopAfterPage.test(textItems)) {
+                break;
+            }
         }
         
         return textItems;
@@ -64,12 +169,15 @@ public class PdfReader {
      * Custom PDF text stripper that preserves text position and formatting
      */
     private static class CustomTextStripper extends PDFTextStripper {
-        private final List<TextItem> textItems = new ArrayList<>();
+        private final List<TextItem> textItems;
         private final Map<String, Boolean> fontIsBold = new HashMap<>();
         private final int pageNumber;
+        private final ParseArena arena;
         
-        public CustomTextStripper(int pageNumber) throws IOException {
+        public CustomTextStripper(int pageNumber, ParseArena arena) throws IOException {
             this.pageNumber = pageNumber;
+            this.arena = arena;
+            this.textItems = arena.list();
         }
         
         @Override
@@ -83,7 +191,7 @@ public class PdfReader {
             String fontName = text.getFont().getName();
             boolean isBold = isFontBold(fontName);
             
-            TextItem item = new TextItem(
+            TextItem item = arena.textItem(
                     text.getUnicode(), 
                     text.getXDirAdj(), 
                     text.getXDirAdj() + text.getWidth(), 
@@ -0,0 +1,269 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-document spatial index over TextItem bounding boxes.
+ * Built once after the PDF is read, it answers layout questions such as
+ * "what sits on the same baseline as this item" without scanning every item.
+ *
+ * Each page is bucketed into a uniform grid of roughly sqrt(n) x sqrt(n) cells.
+ * An item spans its [x1, x2] range horizontally and sits at a single y position,
+ * so it is registered in every column it overlaps within its row.
+ * The index is immutable once built and safe to share between threads.
+ */
+public final class TextItemIndex {
+
+    private static final TextItemIndex EMPTY = new TextItemIndex(Collections.emptyMap());
+
+    private final Map<Integer, PageGrid> pages;
+
+    private TextItemIndex(Map<Integer, PageGrid> pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Build an index over all text items of a document
+     * @param textItems Text items as produced by the PdfReader
+     * @return The spatial index
+     */
+    public static TextItemIndex build(List<TextItem> textItems) {
+        if (textItems == null || textItems.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<Integer, List<TextItem>> itemsByPage = new HashMap<>();
+        for (TextItem item : textItems) {
+            itemsByPage.computeIfAbsent(item.getPageNumber(), page -> new ArrayList<>()).add(item);
+        }
+
+        Map<Integer, PageGrid> pages = new HashMap<>();
+        for (Map.Entry<Integer, List<TextItem>> entry : itemsByPage.entrySet()) {
+            pages.put(entry.getKey(), new PageGrid(entry.getValue()));
+        }
+        return new TextItemIndex(pages);
+    }
+
+    /**
+     * Find all items on a page whose box intersects the given rectangle
+     * @return Matching items, ordered by cell (top row first, then left to right)
+     */
+    public List<TextItem> range(int pageNumber, float minX, float minY, float maxX, float maxY) {
+        PageGrid grid = pages.get(pageNumber);
+        if (grid == null || minX > maxX || minY > maxY) {
+            return new ArrayList<>();
+        }
+        List<TextItem> result = new ArrayList<>();
+        grid.collect(minX, minY, maxX, maxY, result);
+        return result;
+    }
+
+    /**
+     * Find the items that sit on the same baseline as the given item
+     * @param item The reference item
+     * @param yTolerance Maximum vertical distance for an item to count as the same band
+     * @return Other items in the band, sorted left to right
+     */
+    public List<TextItem> sameBand(TextItem item, float yTolerance) {
+        List<TextItem> band = range(item.getPageNumber(),
+                -Float.MAX_VALUE, item.getY() - yTolerance,
+                Float.MAX_VALUE, item.getY() + yTolerance);
+        band.remove(item);
+        band.sort((a, b) -> Float.compare(a.getX1(), b.getX1()));
+        return band;
+    }
+
+    /**
+     * Find the right-most item on the same baseline as the given item,
+     * e.g. a right-aligned date next to a job title
+     * @return The right-most item in the band to the right of the item, or null if none
+     */
+    public TextItem rightmostInBand(TextItem item, float yTolerance) {
+        TextItem rightmost = null;
+        for (TextItem candidate : sameBand(item, yTolerance)) {
+            if (candidate.getX1() >= item.getX2()
+                    && (rightmost == null || candidate.getX2() > rightmost.getX2())) {
+                rightmost = candidate;
+            }
+        }
+        return rightmost;
+    }
+
+    /**
+     * Find the item closest to the given item on the same page
+     * @return The nearest other item, or null if the page has no other items
+     */
+    public TextItem nearest(TextItem item) {
+        PageGrid grid = pages.get(item.getPageNumber());
+        if (grid == null) {
+            return null;
+        }
+        float x = (item.getX1() + item.getX2()) / 2f;
+        return grid.nearest(x, item.getY(), item);
+    }
+
+    /**
+     * Find the item closest to a point on a page
+     * @return The nearest item, or null if the page has no items
+     */
+    public TextItem nearest(int pageNumber, float x, float y) {
+        PageGrid grid = pages.get(pageNumber);
+        return grid == null ? null : grid.nearest(x, y, null);
+    }
+
+    /**
+     * Uniform grid for the items of a single page, stored in compressed row form:
+     * the items of cell c are cellItems[cellStart[c] .. cellStart[c + 1]).
+     */
+    private static final class PageGrid {
+        private final TextItem[] items;
+        private final int[] firstColumn;
+        private final float minX;
+        private final float minY;
+        private final float cellWidth;
+        private final float cellHeight;
+        private final int columns;
+        private final int rows;
+        private final int[] cellStart;
+        private final int[] cellItems;
+
+        PageGrid(List<TextItem> pageItems) {
+            this.items = pageItems.toArray(new TextItem[0]);
+            this.firstColumn = new int[items.length];
+
+            float loX = Float.MAX_VALUE, hiX = -Float.MAX_VALUE;
+            float loY = Float.MAX_VALUE, hiY = -Float.MAX_VALUE;
+            for (TextItem item : items) {
+                loX = Math.min(loX, Math.min(item.getX1(), item.getX2()));
+                hiX = Math.max(hiX, Math.max(item.getX1(), item.getX2()));
+                loY = Math.min(loY, item.getY());
+                hiY = Math.max(hiY, item.getY());
+            }
+
+            int side = Math.max(1, (int) Math.ceil(Math.sqrt(items.length)));
+            this.minX = loX;
+            this.minY = loY;
+            this.columns = side;
+            this.rows = side;
+            this.cellWidth = Math.max((hiX - loX) / side, 1f);
+            this.cellHeight = Math.max((hiY - loY) / side, 1f);
+
+            // First pass counts the entries per cell, second pass fills them in
+            int cellCount = columns * rows;
+            int[] counts = new int[cellCount + 1];
+            for (TextItem item : items) {
+                int row = row(item.getY());
+                int from = column(Math.min(item.getX1(), item.getX2()));
+                int to = column(Math.max(item.getX1(), item.getX2()));
+                for (int col = from; col <= to; col++) {
+                    counts[row * columns + col + 1]++;
+                }
+            }
+            for (int c = 0; c < cellCount; c++) {
+                counts[c + 1] += counts[c];
+            }
+            this.cellStart = counts.clone();
+            this.cellItems = new int[counts[cellCount]];
+            for (int i = 0; i < items.length; i++) {
+                TextItem item = items[i];
+                int row = row(item.getY());
+                int from = column(Math.min(item.getX1(), item.getX2()));
+                int to = column(Math.max(item.getX1(), item.getX2()));
+                firstColumn[i] = from;
+                for (int col = from; col <= to; col++) {
+                    cellItems[counts[row * columns + col]++] = i;
+                }
+            }
+        }
+
+        private int column(float x) {
+            int col = (int) ((x - minX) / cellWidth);
+            return Math.max(0, Math.min(columns - 1, col));
+        }
+
+        private int row(float y) {
+            int row = (int) ((y - minY) / cellHeight);
+            return Math.max(0, Math.min(rows - 1, row));
+        }
+
+        void collect(float qMinX, float qMinY, float qMaxX, float qMaxY, List<TextItem> out) {
+            int fromCol = column(qMinX);
+            int toCol = column(qMaxX);
+            int fromRow = row(qMinY);
+            int toRow = row(qMaxY);
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int col = fromCol; col <= toCol; col++) {
+                    int cell = row * columns + col;
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        int i = cellItems[k];
+                        // Items spanning several columns are reported only from the first visited one
+                        if (Math.max(firstColumn[i], fromCol) != col) {
+                            continue;
+                        }
+                        TextItem item = items[i];
+                        if (item.getY() >= qMinY && item.getY() <= qMaxY
+                                && Math.max(item.getX1(), item.getX2()) >= qMinX
+                                && Math.min(item.getX1(), item.getX2()) <= qMaxX) {
+                            out.add(item);
+                        }
+                    }
+                }
+            }
+        }
+
+        TextItem nearest(float x, float y, TextItem exclude) {
+            int centerCol = column(x);
+            int centerRow = row(y);
+            int maxRing = Math.max(columns, rows);
+
+            TextItem best = null;
+            float bestDistance = Float.MAX_VALUE;
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // Every cell in this ring is at least (ring - 1) cells away from the query point
+                float ringDistance = Math.max(0, ring - 1) * Math.min(cellWidth, cellHeight);
+                if (best != null && ringDistance > bestDistance) {
+                    break;
+                }
+                for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                    if (row < 0 || row >= rows) {
+                        continue;
+                    }
+                    boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                    int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                    for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                        if (col < 0 || col >= columns) {
+                            continue;
+                        }
+                        int cell = row * columns + col;
+                        for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                            TextItem item = items[cellItems[k]];
+                            if (item == exclude) {
+                                continue;
+                            }
+                            float distance = distance(item, x, y);
+                            if (distance < bestDistance) {
+                                bestDistance = distance;
+                                best = item;
+                            }
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private static float distance(TextItem item, float x, float y) {
+            float left = Math.min(item.getX1(), item.getX2());
+            float right = Math.max(item.getX1(), item.getX2());
+            float dx = x < left ? left - x : (x > right ? x - right : 0f);
+            float dy = item.getY() - y;
+            return (float) Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+}
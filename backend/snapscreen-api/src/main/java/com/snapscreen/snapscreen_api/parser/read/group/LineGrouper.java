@@ -2,70 +2,170 @@ package com.snapscreen.snapscreen_api.parser.read.group;
 
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import com.snapscreen.snapscreen_api.parser.read.ParseArena;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Groups TextItems into lines based on their vertical position.
  * This is equivalent to step 2 of the open-resume solution.
+ *
+ * Pages are grouped independently (in parallel for longer documents) and then
+ * stitched together in page order, so the result does not depend on the thread count.
+ * Lines and lists come from the parse's arena on the caller thread; page tasks on the
+ * pool allocate theirs.
  */
 @Component
 public class LineGrouper {
 
+    // Below this many items, grouping on the caller thread is cheaper than handing pages off
+    private static final int MIN_ITEMS_FOR_PARALLEL = 1000;
+
+    // Top to bottom, left to right within a page
+    private static final Comparator<TextItem> READING_ORDER = (a, b) -> {
+        if (Math.abs(a.getY() - b.getY()) < 2.0f) {
+            return Float.compare(a.getX1(), b.getX1());
+        }
+        return Float.compare(b.getY(), a.getY());  // Reverse because PDF coordinates start from bottom
+    };
+
+    private final ExecutorService pageExecutor;
+
+    public LineGrouper(@Qualifier("parserPageExecutor") ExecutorService pageExecutor) {
+        this.pageExecutor = pageExecutor;
+    }
+
     /**
      * Groups TextItems into ResumeLine objects
      * @param textItems List of TextItem objects extracted from the PDF
-     * @return List of ResumeLine objects
+     * @return List of ResumeLine objects, in page order
      */
     public List<ResumeLine> groupIntoLines(List<TextItem> textItems) {
-        List<ResumeLine> lines = new ArrayList<>();
-        List<TextItem> currentLine = new ArrayList<>();
-        
-        // Make sure textItems are sorted properly (top to bottom, left to right)
-        textItems.sort((a, b) -> {
-            if (Math.abs(a.getY() - b.getY()) < 2.0f) {
-                return Float.compare(a.getX1(), b.getX1());
+        List<List<TextItem>> pages = splitByPage(textItems);
+        if (pages.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<PageLines> pageLines;
+        if (pages.size() < 2 || textItems.size() < MIN_ITEMS_FOR_PARALLEL) {
+            pageLines = new ArrayList<>(pages.size());
+            for (List<TextItem> page : pages) {
+                pageLines.add(groupPage(page));
             }
-            return Float.compare(b.getY(), a.getY());  // Reverse because PDF coordinates start from bottom
-        });
-        
-        for (TextItem item : textItems) {
+        } else {
+            pageLines = PageTasks.mapInOrder(pageExecutor, pages, this::groupPage);
+        }
+
+        return stitch(pageLines);
+    }
+
+    /**
+     * Split items into per-page lists, ordered by page number
+     */
+    private List<List<TextItem>> splitByPage(List<TextItem> textItems) {
+        ParseArena arena = ParseArena.current();
+        List<TextItem> ordered = arena.list(textItems);
+        ordered.sort(Comparator.comparingInt(TextItem::getPageNumber));
+
+        List<List<TextItem>> pages = arena.list();
+        List<TextItem> current = null;
+        int currentPage = 0;
+        for (TextItem item : ordered) {
+            if (current == null || item.getPageNumber() != currentPage) {
+                current = arena.list();
+                pages.add(current);
+                currentPage = item.getPageNumber();
+            }
+            current.add(item);
+        }
+        return pages;
+    }
+
+    /**
+     * Group the items of a single page into lines
+     */
+    private PageLines groupPage(List<TextItem> pageItems) {
+        // Make sure textItems are sorted properly (top to bottom, left to right)
+        pageItems.sort(READING_ORDER);
+
+        ParseArena arena = ParseArena.current();
+        List<List<TextItem>> groups = arena.list();
+        List<TextItem> currentLine = arena.list();
+        for (TextItem item : pageItems) {
             if (item.isNewLine() && !currentLine.isEmpty()) {
-                // Create a new line and add it to lines
-                ResumeLine line = createResumeLine(currentLine);
-                lines.add(line);
-                currentLine = new ArrayList<>();
+                groups.add(currentLine);
+                currentLine = arena.list();
             }
-            
             currentLine.add(item);
         }
-        
-        // Don't forget the last line
         if (!currentLine.isEmpty()) {
-            ResumeLine line = createResumeLine(currentLine);
-            lines.add(line);
+            groups.add(currentLine);
+        }
+
+        // Keep the raw items of the edge lines, they may be merged with the neighbouring pages
+        List<TextItem> firstItems = arena.list(groups.get(0));
+        List<TextItem> lastItems = arena.list(groups.get(groups.size() - 1));
+        List<ResumeLine> lines = arena.list();
+        for (List<TextItem> group : groups) {
+            lines.add(createResumeLine(arena, group));
+        }
+        return new PageLines(lines, firstItems, lastItems, !pageItems.get(0).isNewLine());
+    }
+
+    /**
+     * Concatenate the pages in order. A page whose first item does not start a new line
+     * continues the last line of the previous page, exactly as a single pass would.
+     */
+    private List<ResumeLine> stitch(List<PageLines> pages) {
+        ParseArena arena = ParseArena.current();
+        List<ResumeLine> lines = arena.list();
+        List<TextItem> openLineItems = null;
+        for (PageLines page : pages) {
+            List<ResumeLine> pageLines = page.lines();
+            int from = 0;
+            if (page.continuesPreviousLine() && openLineItems != null) {
+                List<TextItem> merged = arena.list(openLineItems);
+                merged.addAll(page.firstItems());
+                lines.set(lines.size() - 1, createResumeLine(arena, merged));
+                openLineItems = merged;
+                from = 1;
+            }
+            for (int i = from; i < pageLines.size(); i++) {
+                lines.add(pageLines.get(i));
+            }
+            if (pageLines.size() > from) {
+                openLineItems = page.lastItems();
+            }
         }
-        
         return lines;
     }
-    
-    private ResumeLine createResumeLine(List<TextItem> lineItems) {
+
+    private ResumeLine createResumeLine(ParseArena arena, List<TextItem> lineItems) {
         // Sort the items by X position to ensure correct order
         lineItems.sort((a, b) -> Float.compare(a.getX1(), b.getX1()));
-        
-        // Determine line properties
-        float y = lineItems.get(0).getY();
-        String text = lineItems.stream()
-            .map(TextItem::getText)
-            .reduce("", (a, b) -> a + (a.isEmpty() || b.isEmpty() ? "" : " ") + b);
-        
-        ResumeLine line = new ResumeLine();
-        line.setY(y);
-        line.setText(text);
-        line.setTextItems(new ArrayList<>(lineItems));
-        
+
+        // The line's text is derived from its items when first asked for
+        ResumeLine line = arena.line();
+        line.setY(lineItems.get(0).getY());
+        line.setPageNumber(lineItems.get(0).getPageNumber());
+        line.setTextItems(arena.list(lineItems));
+
         return line;
     }
+
+    /**
+     * Lines of a single page, plus what the stitching step needs to join pages
+     */
+    private record PageLines(
+        List<ResumeLine> lines,
+        List<TextItem> firstItems,
+        List<TextItem> lastItems,
+        boolean continuesPreviousLine
+    ) {
+    }
 }
@@ -0,0 +1,54 @@
+package com.snapscreen.snapscreen_api.parser.read.group;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Runs one task per page on the page executor and collects the results in page order.
+ */
+final class PageTasks {
+
+    private PageTasks() {
+    }
+
+    /**
+     * Apply a function to every page chunk in parallel
+     * @param executor The executor to run the chunks on
+     * @param chunks Per-page inputs, in page order
+     * @param task The work to run for each chunk
+     * @return The results, in the same order as the chunks
+     */
+    static <T, R> List<R> mapInOrder(ExecutorService executor, List<T> chunks, Function<T, R> task) {
+        List<Future<R>> futures = new ArrayList<>(chunks.size());
+        try {
+            // The caller handles the first page itself instead of sitting idle
+            for (int i = 1; i < chunks.size(); i++) {
+                T chunk = chunks.get(i);
+                futures.add(executor.submit(() -> task.apply(chunk)));
+            }
+
+            List<R> results = new ArrayList<>(chunks.size());
+            results.add(task.apply(chunks.get(0)));
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while grouping pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to group page", e.getCause());
+        } finally {
+            for (Future<R> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
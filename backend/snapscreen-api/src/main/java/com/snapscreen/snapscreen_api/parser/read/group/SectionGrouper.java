@@ -2,6 +2,8 @@ package com.snapscreen.snapscreen_api.parser.read.group;
 
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
+import com.snapscreen.snapscreen_api.parser.read.ParseArena;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -9,11 +11,15 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Identifies and groups lines into resume sections.
  * This is equivalent to step 3 of the open-resume solution.
+ *
+ * Header detection is the expensive part, so it runs per page (in parallel for longer
+ * documents); the cheap pass that carries the current section across lines and pages
+ * then runs in order.
  */
 @Component
 public class SectionGrouper {
@@ -35,6 +41,18 @@ public class SectionGrouper {
         SECTION_KEYWORDS.put("publications", Arrays.asList("publications", "papers", "articles"));
         SECTION_KEYWORDS.put("volunteer", Arrays.asList("volunteer", "volunteering", "community service"));
     }
+    
+    // Built once from the keywords; tolerates small typos in header lines
+    private static final SectionHeaderMatcher HEADER_MATCHER = new SectionHeaderMatcher(SECTION_KEYWORDS);
+    
+    // Below this many lines, classifying on the caller thread is cheaper than handing pages off
+    private static final int MIN_LINES_FOR_PARALLEL = 200;
+    
+    private final ExecutorService pageExecutor;
+    
+    public SectionGrouper(@Qualifier("parserPageExecutor") ExecutorService pageExecutor) {
+        this.pageExecutor = pageExecutor;
+    }
 
     /**
      * Group resume lines into sections
@@ -42,72 +60,108 @@ public class SectionGrouper {
      * @return Map of section names to lists of lines
      */
     public Map<String, ResumeSection> groupIntoSections(List<ResumeLine> lines) {
+        ParseArena arena = ParseArena.current();
         Map<String, ResumeSection> sections = new HashMap<>();
         
         // Add a default "profile" section to catch header information
         ResumeSection profileSection = new ResumeSection();
         profileSection.setName("profile");
-        profileSection.setLines(new ArrayList<>());
+        profileSection.setLines(arena.list());
         sections.put("profile", profileSection);
         
         String currentSection = "profile";
         
-        for (int i = 0; i < lines.size(); i++) {
-            ResumeLine line = lines.get(i);
-            String lineText = line.getText().toLowerCase().trim();
-            
-            // Skip empty lines
-            if (lineText.isEmpty()) {
-                continue;
-            }
-            
-            // Check if this line is a section header
-            String sectionName = identifySectionHeader(lineText);
-            
-            if (sectionName != null) {
-                currentSection = sectionName;
+        for (LineClasses page : classifyLines(lines)) {
+            for (int i = 0; i < page.lines().size(); i++) {
+                ResumeLine line = page.lines().get(i);
                 
-                // Create new section if it doesn't exist
-                if (!sections.containsKey(currentSection)) {
-                    ResumeSection section = new ResumeSection();
-                    section.setName(currentSection);
-                    section.setLines(new ArrayList<>());
-                    sections.put(currentSection, section);
+                // Skip empty lines
+                if (page.empty()[i]) {
+                    continue;
                 }
                 
-                // Don't add the section header line to the section content
-                continue;
-            }
+                // Check if this line is a section header
+                String sectionName = page.headers()[i];
+                
+                if (sectionName != null) {
+                    currentSection = sectionName;
+                
+                    // Create new section if it doesn't exist
+                    if (!sections.containsKey(currentSection)) {
+                        ResumeSection section = new ResumeSection();
+                        section.setName(currentSection);
+                        section.setLines(arena.list());
+                        sections.put(currentSection, section);
+                    }
+                
+                    // Don't add the section header line to the section content
+                    continue;
+                }
             
-            // Add the line to the current section
-            sections.get(currentSection).getLines().add(line);
+                // Add the line to the current section
+                sections.get(currentSection).getLines().add(line);
+            }
         }
         
         return sections;
     }
     
     /**
-     * Identify if a line is a section header based on section keywords
+     * Split lines into runs of the same page and classify each line of a run
+     * as empty, content or a section header
+     */
+    private List<LineClasses> classifyLines(List<ResumeLine> lines) {
+        ParseArena arena = ParseArena.current();
+        List<List<ResumeLine>> pages = arena.list();
+        int start = 0;
+        for (int i = 1; i <= lines.size(); i++) {
+            if (i == lines.size() || lines.get(i).getPageNumber() != lines.get(start).getPageNumber()) {
+                pages.add(lines.subList(start, i));
+                start = i;
+            }
+        }
+        
+        if (pages.size() < 2 || lines.size() < MIN_LINES_FOR_PARALLEL) {
+            List<LineClasses> classes = new ArrayList<>(pages.size());
+            for (List<ResumeLine> page : pages) {
+                classes.add(classifyPage(page));
+            }
+            return classes;
+        }
+        return PageTasks.mapInOrder(pageExecutor, pages, this::classifyPage);
+    }
+    
+    private LineClasses classifyPage(List<ResumeLine> pageLines) {
+        String[] headers = new String[pageLines.size()];
+        boolean[] empty = new boolean[pageLines.size()];
+        for (int i = 0; i < pageLines.size(); i++) {
+            String lineText = pageLines.get(i).getText().toLowerCase().trim();
+            empty[i] = lineText.isEmpty();
+            if (!empty[i]) {
+                headers[i] = identifySectionHeader(lineText);
+            }
+        }
+        return new LineClasses(pageLines, headers, empty);
+    }
+    
+    /**
+     * Identify if a line is a section header based on section keywords,
+     * allowing for small typos in the keyword
      * @param lineText The text of the line
      * @return The section name if identified, null otherwise
      */
     private String identifySectionHeader(String lineText) {
-        for (Map.Entry<String, List<String>> entry : SECTION_KEYWORDS.entrySet()) {
-            String sectionName = entry.getKey();
-            List<String> keywords = entry.getValue();
-            
-            // Check if line contains any of the section keywords
-            for (String keyword : keywords) {
-                // Match either the keyword as a whole word or as a standalone section header
-                Pattern pattern = Pattern.compile("\\b" + Pattern.quote(keyword) + "\\b", Pattern.CASE_INSENSITIVE);
-                if (pattern.matcher(lineText).find() && 
-                    // Additional heuristic: section headers are usually short
-                    lineText.split("\\s+").length <= 5) {
-                    return sectionName;
-                }
-            }
+        // Section headers are usually short
+        if (lineText.split("\\s+").length > 5) {
+            return null;
         }
         
-        return null;
+        return HEADER_MATCHER.match(lineText);
+    }
+    
+    /**
+     * Per-page classification: the header name of each line (null for content) and whether it is empty
+     */
+    private record LineClasses(List<ResumeLine> lines, String[] headers, boolean[] empty) {
     }
 }
@@ -0,0 +1,254 @@
+package com.snapscreen.snapscreen_api.parser.read.group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches lines against the section keywords, tolerating small typos
+ * such as "Experiance" or "Educaton".
+ *
+ * Exact keyword matches are looked up first and keep the original precedence
+ * (section order, then keyword order). If none is found, each word of the line is
+ * matched through a deletion-neighbourhood index built once from the keywords:
+ * a word and a keyword are candidates when deleting up to k characters from each
+ * yields the same string, and candidates are confirmed with a bounded edit distance.
+ * This keeps matching proportional to the length of the line rather than to the
+ * number of keywords.
+ */
+public final class SectionHeaderMatcher {
+
+    // Words that often surround a section keyword in a header ("Professional Experience")
+    private static final List<String> FILLER_WORDS = Arrays.asList(
+        "professional", "relevant", "related", "selected", "additional", "other",
+        "key", "core", "technical", "academic", "personal", "and"
+    );
+
+    // Marks a filler entry in the fuzzy index
+    private static final int FILLER = -1;
+
+    private final List<String> sectionNames = new ArrayList<>();
+    private final Map<String, Integer> exactRanks = new HashMap<>();
+    private final int[] rankToSection;
+    private final Map<String, int[]> deletionIndex = new HashMap<>();
+    private final List<String> fuzzyWords = new ArrayList<>();
+    private final List<Integer> fuzzyRanks = new ArrayList<>();
+
+    /**
+     * Build a matcher from section keywords
+     * @param sectionKeywords Map of section names to keywords, iterated in precedence order
+     */
+    public SectionHeaderMatcher(Map<String, List<String>> sectionKeywords) {
+        List<Integer> sections = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : sectionKeywords.entrySet()) {
+            int sectionIdx = sectionNames.size();
+            sectionNames.add(entry.getKey());
+            for (String keyword : entry.getValue()) {
+                String normalized = keyword.toLowerCase().trim();
+                int rank = sections.size();
+                sections.add(sectionIdx);
+                exactRanks.putIfAbsent(normalized, rank);
+                // Multi-word keywords are only matched exactly
+                if (normalized.indexOf(' ') == -1) {
+                    addFuzzyWord(normalized, rank);
+                }
+            }
+        }
+        for (String filler : FILLER_WORDS) {
+            if (!exactRanks.containsKey(filler)) {
+                addFuzzyWord(filler, FILLER);
+            }
+        }
+        this.rankToSection = sections.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Identify the section a header line belongs to
+     * @param lineText The lowercased, trimmed text of the line
+     * @return The section name, or null if the line is not a section header
+     */
+    public String match(String lineText) {
+        List<String> tokens = tokenize(lineText);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        // Exact keyword match anywhere in the line, single words and word pairs
+        int bestRank = Integer.MAX_VALUE;
+        for (int i = 0; i < tokens.size(); i++) {
+            Integer rank = exactRanks.get(tokens.get(i));
+            if (rank != null && rank < bestRank) {
+                bestRank = rank;
+            }
+            if (i + 1 < tokens.size()) {
+                rank = exactRanks.get(tokens.get(i) + " " + tokens.get(i + 1));
+                if (rank != null && rank < bestRank) {
+                    bestRank = rank;
+                }
+            }
+        }
+        if (bestRank != Integer.MAX_VALUE) {
+            return sectionNames.get(rankToSection[bestRank]);
+        }
+
+        // Fuzzy match: every word must be a (possibly misspelled) keyword or filler word,
+        // so that lines like "Project Manager" are not mistaken for a "Projects" header
+        int bestDistance = Integer.MAX_VALUE;
+        for (String token : tokens) {
+            int[] hit = fuzzyLookup(token);
+            if (hit == null) {
+                return null;
+            }
+            int rank = hit[0];
+            int distance = hit[1];
+            if (rank != FILLER && (distance < bestDistance || (distance == bestDistance && rank < bestRank))) {
+                bestDistance = distance;
+                bestRank = rank;
+            }
+        }
+        return bestRank == Integer.MAX_VALUE ? null : sectionNames.get(rankToSection[bestRank]);
+    }
+
+    /**
+     * Find the closest keyword or filler word for a token
+     * @return {rank, distance} of the best candidate, or null if none is within range
+     */
+    private int[] fuzzyLookup(String token) {
+        int maxEdits = maxEdits(token.length());
+        Set<Integer> candidates = new HashSet<>();
+        for (String variant : deletions(token, maxEdits)) {
+            int[] words = deletionIndex.get(variant);
+            if (words != null) {
+                for (int word : words) {
+                    candidates.add(word);
+                }
+            }
+        }
+
+        int[] best = null;
+        for (int word : candidates) {
+            String candidate = fuzzyWords.get(word);
+            int allowed = Math.min(maxEdits, maxEdits(candidate.length()));
+            int distance = boundedDistance(token, candidate, allowed);
+            if (distance > allowed) {
+                continue;
+            }
+            int rank = fuzzyRanks.get(word);
+            if (best == null || distance < best[1]
+                    || (distance == best[1] && best[0] == FILLER && rank != FILLER)
+                    || (distance == best[1] && rank != FILLER && rank < best[0])) {
+                best = new int[] { rank, distance };
+            }
+        }
+        return best;
+    }
+
+    private void addFuzzyWord(String word, int rank) {
+        int wordIdx = fuzzyWords.size();
+        fuzzyWords.add(word);
+        fuzzyRanks.add(rank);
+        for (String variant : deletions(word, maxEdits(word.length()))) {
+            int[] existing = deletionIndex.get(variant);
+            int[] updated = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+            updated[updated.length - 1] = wordIdx;
+            deletionIndex.put(variant, updated);
+        }
+    }
+
+    /**
+     * Number of typos tolerated for a word of the given length.
+     * Short words are matched exactly to avoid collisions like "job" and "jog".
+     */
+    static int maxEdits(int length) {
+        if (length >= 8) {
+            return 2;
+        }
+        return length >= 5 ? 1 : 0;
+    }
+
+    /**
+     * All strings obtained by deleting up to maxDeletes characters, including the word itself
+     */
+    static Set<String> deletions(String word, int maxDeletes) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        List<String> frontier = List.of(word);
+        for (int d = 0; d < maxDeletes; d++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                for (int i = 0; i < current.length(); i++) {
+                    String variant = current.substring(0, i) + current.substring(i + 1);
+                    if (result.add(variant)) {
+                        next.add(variant);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * Optimal string alignment distance (edits plus adjacent transpositions),
+     * giving up early once it exceeds the limit
+     * @return The distance, or limit + 1 if it is larger than the limit
+     */
+    static int boundedDistance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    /**
+     * Split a line into word tokens (letters, digits and underscores, like the regex \w class)
+     */
+    private static List<String> tokenize(String lineText) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= lineText.length(); i++) {
+            boolean wordChar = i < lineText.length() && isWordChar(lineText.charAt(i));
+            if (wordChar && start == -1) {
+                start = i;
+            } else if (!wordChar && start != -1) {
+                tokens.add(lineText.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,237 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.DateRange;
+
+import java.time.YearMonth;
+
+/**
+ * Parses the date text of an education or experience entry into a start and end date,
+ * e.g. "Jan 2020 - Present", "Fall 2018 – Spring 2022", "09/2016 to 2019" or "2014 2018".
+ *
+ * A hand-written scanner over a small grammar, anything else between the tokens is skipped:
+ *   range     := date [separator] [date]
+ *   date      := [month | season | MM "/"] year | "present" | "current" | "now" | "today"
+ *   separator := any dash | "to" | "until" | "till"
+ * Only whole words are keywords, so "Toronto" is not split at "to".
+ *
+ * Parsing works on per-thread scratch state and allocates nothing; only reading the
+ * result as strings or YearMonths does. Use {@link #forCurrentThread()} to get a parser.
+ */
+public final class DateRangeParser {
+
+    private static final ThreadLocal<DateRangeParser> PARSERS = ThreadLocal.withInitial(DateRangeParser::new);
+
+    private static final String[] MONTHS = {
+        "january", "february", "march", "april", "may", "june",
+        "july", "august", "september", "october", "november", "december"
+    };
+
+    private static final int START = 0;
+    private static final int END = 1;
+
+    // Scratch state of the last parse, indexed by START / END
+    private String text;
+    private int dates;
+    private boolean ongoing;
+    private final int[] years = new int[2];
+    private final int[] months = new int[2];
+    private final DateRange.Precision[] precisions = new DateRange.Precision[2];
+    private final int[] spanStarts = new int[2];
+    private final int[] spanEnds = new int[2];
+
+    // Month or season waiting for its year
+    private int pendingMonth;
+    private DateRange.Precision pendingPrecision;
+    private int pendingStart;
+
+    private DateRangeParser() {
+    }
+
+    /**
+     * @return The parser owned by the calling thread
+     */
+    public static DateRangeParser forCurrentThread() {
+        return PARSERS.get();
+    }
+
+    /**
+     * Parse a date text, replacing the result of the previous parse
+     * @param dateText The text to parse, may be null
+     * @return Whether at least a start date was found
+     */
+    public boolean parse(String dateText) {
+        text = dateText == null ? "" : dateText;
+        dates = 0;
+        ongoing = false;
+        clearPending();
+
+        int length = text.length();
+        int i = 0;
+        while (i < length && dates < 2) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                int end = i + 1;
+                while (end < length && isDigit(text.charAt(end))) {
+                    end++;
+                }
+                number(i, end);
+                i = end;
+            } else if (Character.isLetter(c)) {
+                int end = i + 1;
+                while (end < length && Character.isLetter(text.charAt(end))) {
+                    end++;
+                }
+                word(i, end);
+                i = end;
+            } else {
+                if (isDash(c)) {
+                    clearPending();
+                }
+                i++;
+            }
+        }
+        return dates > 0;
+    }
+
+    private void number(int start, int end) {
+        int length = end - start;
+        if (length == 4 && (text.startsWith("19", start) || text.startsWith("20", start))) {
+            int year = digits(start, end);
+            if (pendingPrecision != null) {
+                addDate(year, pendingMonth, pendingPrecision, pendingStart, end);
+            } else {
+                addDate(year, 1, DateRange.Precision.YEAR, start, end);
+            }
+        } else if (length <= 2 && end < text.length() && text.charAt(end) == '/') {
+            // Numeric month, as in 09/2016
+            int month = digits(start, end);
+            if (month >= 1 && month <= 12) {
+                setPending(month, DateRange.Precision.MONTH, start);
+            }
+        }
+        // Any other number, e.g. a day of the month, leaves a pending month in place
+    }
+
+    private void word(int start, int end) {
+        int length = end - start;
+        if (isWord(start, length, "to") || isWord(start, length, "until") || isWord(start, length, "till")) {
+            clearPending();
+        } else if (isWord(start, length, "present") || isWord(start, length, "current")
+                || isWord(start, length, "now") || isWord(start, length, "today")) {
+            // Only meaningful as the end of a range
+            if (dates == 1) {
+                ongoing = true;
+                spanStarts[END] = start;
+                spanEnds[END] = end;
+                dates = 2;
+            }
+        } else if (isWord(start, length, "spring")) {
+            setPending(3, DateRange.Precision.SEASON, start);
+        } else if (isWord(start, length, "summer")) {
+            setPending(6, DateRange.Precision.SEASON, start);
+        } else if (isWord(start, length, "fall") || isWord(start, length, "autumn")) {
+            setPending(9, DateRange.Precision.SEASON, start);
+        } else if (isWord(start, length, "winter")) {
+            setPending(1, DateRange.Precision.SEASON, start);
+        } else {
+            int month = month(start, length);
+            if (month > 0) {
+                setPending(month, DateRange.Precision.MONTH, start);
+            } else if (length > 2) {
+                // Any other word breaks the link between a month and a later year,
+                // short ones such as the "th" in "May 5th, 2020" do not
+                clearPending();
+            }
+        }
+    }
+
+    /**
+     * @return The month (1-12) of a full or abbreviated month name, e.g. "Sep", "Sept" or "September", or 0
+     */
+    private int month(int start, int length) {
+        if (length < 3) {
+            return 0;
+        }
+        for (int m = 0; m < MONTHS.length; m++) {
+            String name = MONTHS[m];
+            if (length <= name.length() && text.regionMatches(true, start, name, 0, length)) {
+                return m + 1;
+            }
+        }
+        return isWord(start, length, "sept") ? 9 : 0;
+    }
+
+    private void addDate(int year, int month, DateRange.Precision precision, int spanStart, int spanEnd) {
+        int index = dates++;
+        years[index] = year;
+        months[index] = month;
+        precisions[index] = precision;
+        spanStarts[index] = spanStart;
+        spanEnds[index] = spanEnd;
+        clearPending();
+    }
+
+    private void setPending(int month, DateRange.Precision precision, int start) {
+        pendingMonth = month;
+        pendingPrecision = precision;
+        pendingStart = start;
+    }
+
+    private void clearPending() {
+        pendingMonth = 0;
+        pendingPrecision = null;
+        pendingStart = -1;
+    }
+
+    private boolean isWord(int start, int length, String word) {
+        return length == word.length() && text.regionMatches(true, start, word, 0, length);
+    }
+
+    private int digits(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Hyphen, hyphen/minus variants, figure dash, en dash, em dash, horizontal bar, minus sign
+    private static boolean isDash(char c) {
+        return c == '-' || (c >= '\u2010' && c <= '\u2015') || c == '\u2212';
+    }
+
+    /**
+     * @return The start as written, or the whole text if no date was found
+     */
+    public String startText() {
+        return dates > 0 ? text.substring(spanStarts[START], spanEnds[START]) : text.trim();
+    }
+
+    /**
+     * @return The end as written, e.g. "May 2016" or "Present", or an empty string
+     */
+    public String endText() {
+        return dates > 1 ? text.substring(spanStarts[END], spanEnds[END]) : "";
+    }
+
+    /**
+     * @return The structured range of the last parse, or null if no date was found
+     */
+    public DateRange toDateRange() {
+        if (dates == 0) {
+            return null;
+        }
+        YearMonth start = YearMonth.of(years[START], months[START]);
+        YearMonth end = dates > 1 && !ongoing ? YearMonth.of(years[END], months[END]) : null;
+
+        DateRange.Precision precision = precisions[START];
+        if (end != null && precisions[END].compareTo(precision) < 0) {
+            precision = precisions[END];
+        }
+        return new DateRange(start, end, ongoing, precision);
+    }
+}
@@ -4,14 +4,19 @@ import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
 import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Experience;
+import com.snapscreen.snapscreen_api.parser.read.TextItemIndex;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureRules;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureScorer;
 import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureScoringSystem;
 
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -24,34 +29,26 @@ public class ExperienceExtractor {
     private final FeatureScoringSystem scoringSystem;
     private final SubsectionExtractor subsectionExtractor;
     
-    // Common date patterns for extracting dates
+    // Used to tell whether the scored date actually contains a year
     private static final Pattern YEAR_PATTERN = Pattern.compile("(?:19|20)\\d{2}");
-    private static final List<String> MONTHS = Arrays.asList(
-        "January", "February", "March", "April", "May", "June", 
-        "July", "August", "September", "October", "November", "December"
-    );
-    private static final List<String> SEASONS = Arrays.asList(
-        "Spring", "Summer", "Fall", "Winter"
-    );
     
-    // Common job titles
-    private static final List<String> JOB_TITLES = Arrays.asList(
-        "Accountant", "Administrator", "Advisor", "Agent", "Analyst", "Apprentice", 
-        "Architect", "Assistant", "Associate", "Auditor", "Bartender", "Biologist", 
-        "Bookkeeper", "Buyer", "Carpenter", "Cashier", "CEO", "Clerk", "Co-op", 
-        "Co-Founder", "Consultant", "Coordinator", "CTO", "Developer", "Designer", 
-        "Director", "Driver", "Editor", "Electrician", "Engineer", "Extern", "Founder", 
-        "Freelancer", "Head", "Intern", "Janitor", "Journalist", "Laborer", "Lawyer", 
-        "Lead", "Manager", "Mechanic", "Member", "Nurse", "Officer", "Operator", 
-        "Operation", "Photographer", "President", "Producer", "Recruiter", "Representative", 
-        "Researcher", "Sales", "Server", "Scientist", "Specialist", "Supervisor", 
-        "Teacher", "Technician", "Trader", "Trainee", "Treasurer", "Tutor", "Vice", 
-        "VP", "Volunteer", "Webmaster", "Worker"
-    );
+    // Vertical tolerance for a date column that is slightly off the header's baseline
+    private static final float DATE_BAND_TOLERANCE = 4.0f;
     
-    public ExperienceExtractor(FeatureScoringSystem scoringSystem, SubsectionExtractor subsectionExtractor) {
+    // Compiled feature scorers, see parser/feature-rules.json
+    private final FeatureScorer dateScorer;
+    private final FeatureScorer jobTitleScorer;
+    private final FeatureScorer companyScorer;
+    
+    public ExperienceExtractor(
+            FeatureScoringSystem scoringSystem,
+            SubsectionExtractor subsectionExtractor,
+            FeatureRules featureRules) {
         this.scoringSystem = scoringSystem;
         this.subsectionExtractor = subsectionExtractor;
+        this.dateScorer = featureRules.scorer("date");
+        this.jobTitleScorer = featureRules.scorer("experience.jobTitle");
+        this.companyScorer = featureRules.scorer("experience.company");
     }
     
     /**
@@ -60,6 +57,16 @@ public class ExperienceExtractor {
      * @return List of Experience objects
      */
     public List<Experience> extractExperience(Map<String, ResumeSection> sections) {
+        return extractExperience(sections, null);
+    }
+    
+    /**
+     * Extract work experience information from resume sections
+     * @param sections Map of section names to ResumeSection objects
+     * @param textItemIndex Spatial index over the document's text items, or null if unavailable
+     * @return List of Experience objects
+     */
+    public List<Experience> extractExperience(Map<String, ResumeSection> sections, TextItemIndex textItemIndex) {
         List<Experience> experiences = new ArrayList<>();
         ResumeSection experienceSection = null;
         
@@ -98,6 +105,12 @@ public class ExperienceExtractor {
             
             // Extract job details
             String date = extractDate(headerTextItems);
+            if (textItemIndex != null && !YEAR_PATTERN.matcher(date).find()) {
+                String columnDate = extractDateFromColumn(subsection, descriptionsLineIdx, headerTextItems, textItemIndex);
+                if (!columnDate.isEmpty()) {
+                    date = columnDate;
+                }
+            }
             String jobTitle = extractJobTitle(headerTextItems);
             String company = extractCompany(headerTextItems, date, jobTitle);
             
@@ -109,9 +122,10 @@ public class ExperienceExtractor {
             }
             
             // Parse start and end dates
-            String[] dateParts = parseDate(date);
-            String startDate = dateParts[0];
-            String endDate = dateParts[1];
+            DateRangeParser dateRangeParser = DateRangeParser.forCurrentThread();
+            dateRangeParser.parse(date);
+            String startDate = dateRangeParser.startText();
+            String endDate = dateRangeParser.endText();
             
             // Create the experience object
             Experience experience = new Experience();
@@ -119,6 +133,7 @@ public class ExperienceExtractor {
             experience.setTitle(jobTitle);
             experience.setStartDate(startDate);
             experience.setEndDate(endDate);
+            experience.setDateRange(dateRangeParser.toDateRange());
             experience.setDescription(String.join("\n", descriptions));
             
             // Add individual responsibility bullet points
@@ -136,141 +151,67 @@ public class ExperienceExtractor {
      * Extract date using feature scoring
      */
     private String extractDate(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        
-        // Date features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(YEAR_PATTERN), 2));
-        
-        // Month features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            textItem -> MONTHS.stream().anyMatch(month -> 
-                textItem.getText().contains(month) || 
-                textItem.getText().contains(month.substring(0, 3))),
-            2));
-        
-        // Season features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            textItem -> SEASONS.stream().anyMatch(season -> 
-                textItem.getText().contains(season)),
-            1));
-        
-        // Present feature
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            textItem -> textItem.getText().contains("Present"), 
-            2));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasComma(), -1));
+        return scoringSystem.getTextWithHighestFeatureScore(textItems, dateScorer);
+    }
+    
+    /**
+     * Look for a date that sits in its own column on the same band as a header line,
+     * e.g. right-aligned dates that the line grouper placed on a neighbouring line
+     */
+    private String extractDateFromColumn(
+            List<ResumeLine> subsection,
+            int headerLineCount,
+            List<TextItem> headerTextItems,
+            TextItemIndex textItemIndex) {
+        Set<TextItem> headerItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        headerItems.addAll(headerTextItems);
+        
+        List<TextItem> candidates = new ArrayList<>();
+        for (int i = 0; i < headerLineCount && i < subsection.size(); i++) {
+            List<TextItem> lineItems = subsection.get(i).getTextItems();
+            if (lineItems.isEmpty()) {
+                continue;
+            }
+            for (TextItem neighbour : textItemIndex.sameBand(lineItems.get(0), DATE_BAND_TOLERANCE)) {
+                if (!headerItems.contains(neighbour) && YEAR_PATTERN.matcher(neighbour.getText()).find()) {
+                    candidates.add(neighbour);
+                }
+            }
+        }
         
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets, false);
+        return candidates.isEmpty() ? "" : extractDate(candidates);
     }
     
     /**
      * Extract job title using feature scoring
      */
     private String extractJobTitle(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        
-        // Job title features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            textItem -> {
-                String text = textItem.getText();
-                return JOB_TITLES.stream().anyMatch(title -> 
-                    Arrays.stream(text.split("\\s+"))
-                        .anyMatch(word -> word.equals(title)));
-            },
-            4));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasNumber(), -4));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            textItem -> textItem.getText().split("\\s+").length > 5, 
-            -2));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets, false);
+        return scoringSystem.getTextWithHighestFeatureScore(textItems, jobTitleScorer);
     }
     
     /**
      * Extract company using feature scoring
      */
     private String extractCompany(List<TextItem> textItems, String date, String jobTitle) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        
-        // Company features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), 2));
+        boolean hasDate = date != null && !date.isEmpty();
+        boolean hasJobTitle = jobTitle != null && !jobTitle.isEmpty();
+        if (!hasDate && !hasJobTitle) {
+            return scoringSystem.getTextWithHighestFeatureScore(textItems, companyScorer);
+        }
         
-        // Negative features - avoid date and job title
-        if (date != null && !date.isEmpty()) {
+        // Negative features depend on this subsection - avoid date and job title
+        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>(companyScorer.getFeatureSets());
+        if (hasDate) {
             featureSets.add(new FeatureScoringSystem.FeatureSet(
                 FeatureScoringSystem.containsText(date), -4));
         }
         
-        if (jobTitle != null && !jobTitle.isEmpty()) {
+        if (hasJobTitle) {
             featureSets.add(new FeatureScoringSystem.FeatureSet(
                 FeatureScoringSystem.containsText(jobTitle), -4));
         }
         
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets, false);
-    }
-    
-    /**
-     * Parse a date string into start and end date parts
-     */
-    private String[] parseDate(String dateStr) {
-        String startDate = "";
-        String endDate = "";
-        
-        if (dateStr == null || dateStr.isEmpty()) {
-            return new String[] { startDate, endDate };
-        }
-        
-        // Check for common date formats
-        if (dateStr.contains(" - ")) {
-            String[] parts = dateStr.split(" - ");
-            startDate = parts[0].trim();
-            endDate = parts.length > 1 ? parts[1].trim() : "";
-        } else if (dateStr.contains("-")) {
-            String[] parts = dateStr.split("-");
-            startDate = parts[0].trim();
-            endDate = parts.length > 1 ? parts[1].trim() : "";
-        } else if (dateStr.contains("–")) {
-            String[] parts = dateStr.split("–");
-            startDate = parts[0].trim();
-            endDate = parts.length > 1 ? parts[1].trim() : "";
-        } else if (dateStr.contains("to")) {
-            String[] parts = dateStr.split("to");
-            startDate = parts[0].trim();
-            endDate = parts.length > 1 ? parts[1].trim() : "";
-        } else {
-            // If no clear delimiter, assume it's a single date (could be start or end)
-            // Extract years to determine if it's likely a start or end date
-            Pattern yearPattern = Pattern.compile("(19|20)\\d{2}");
-            java.util.regex.Matcher matcher = yearPattern.matcher(dateStr);
-            List<String> years = new ArrayList<>();
-            while (matcher.find()) {
-                years.add(matcher.group());
-            }
-            
-            if (years.size() == 2) {
-                startDate = years.get(0);
-                endDate = years.get(1);
-            } else if (years.size() == 1) {
-                // Single year could be either start or end
-                // If "present" is in the string, it's likely an end date
-                if (dateStr.toLowerCase().contains("present")) {
-                    startDate = years.get(0);
-                    endDate = "Present";
-                } else {
-                    // Default to assuming it's a start date
-                    startDate = years.get(0);
-                }
-            } else {
-                // No years found, just use the whole string as is
-                startDate = dateStr;
-            }
-        }
-        
-        return new String[] { startDate, endDate };
+        return scoringSystem.getTextWithHighestFeatureScore(
+            textItems, featureSets, companyScorer.isReturnEmptyIfHighestScoreNotPositive());
     }
 } 
\ No newline at end of file
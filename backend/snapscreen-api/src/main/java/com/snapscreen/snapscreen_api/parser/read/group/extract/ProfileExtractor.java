@@ -3,14 +3,13 @@ package com.snapscreen.snapscreen_api.parser.read.group.extract;
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
 import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Profile;
-import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureScoringSystem;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.FeatureRules;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.MultiFieldScorer;
 
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -20,19 +19,25 @@ import java.util.stream.Collectors;
 @Component
 public class ProfileExtractor {
 
-    private final FeatureScoringSystem scoringSystem;
+    // Positions of the fields in the multi-field scorer
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int PHONE = 2;
+    private static final int LOCATION = 3;
+    private static final int URL = 4;
+    private static final int SUMMARY = 5;
     
-    // Regex patterns for profile information
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("\\S+@\\S+\\.\\S+");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("\\(?\\d{3}\\)?[\\s-]?\\d{3}[\\s-]?\\d{4}");
-    private static final Pattern CITY_STATE_PATTERN = Pattern.compile("[A-Z][a-zA-Z\\s]+, [A-Z]{2}");
-    private static final Pattern URL_PATTERN = Pattern.compile("\\S+\\.[a-z]+\\/\\S+");
-    private static final Pattern URL_HTTP_PATTERN = Pattern.compile("https?:\\/\\/\\S+\\.\\S+");
-    private static final Pattern URL_WWW_PATTERN = Pattern.compile("www\\.\\S+\\.\\S+");
-    private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s\\.]+$");
+    // Scores all profile fields in one pass, see parser/feature-rules.json
+    private final MultiFieldScorer profileScorer;
     
-    public ProfileExtractor(FeatureScoringSystem scoringSystem) {
-        this.scoringSystem = scoringSystem;
+    public ProfileExtractor(FeatureRules featureRules) {
+        this.profileScorer = new MultiFieldScorer(List.of(
+            featureRules.scorer("profile.name"),
+            featureRules.scorer("profile.email"),
+            featureRules.scorer("profile.phone"),
+            featureRules.scorer("profile.location"),
+            featureRules.scorer("profile.url"),
+            featureRules.scorer("profile.summary")));
     }
     
     /**
@@ -52,13 +57,14 @@ public class ProfileExtractor {
             .flatMap(line -> line.getTextItems().stream())
             .collect(Collectors.toList());
         
-        // Extract profile information using feature scoring
-        String name = extractName(textItems);
-        String email = extractEmail(textItems);
-        String phone = extractPhone(textItems);
-        String location = extractLocation(textItems);
-        String url = extractUrl(textItems);
-        String summary = extractSummary(textItems);
+        // Extract profile information using feature scoring, all fields in a single pass
+        String[] fields = profileScorer.getTextsWithHighestFeatureScores(textItems);
+        String name = fields[NAME];
+        String email = fields[EMAIL];
+        String phone = fields[PHONE];
+        String location = fields[LOCATION];
+        String url = fields[URL];
+        String summary = fields[SUMMARY];
         
         // Check for dedicated summary section
         ResumeSection summarySection = sections.getOrDefault("summary", null);
@@ -88,109 +94,4 @@ public class ProfileExtractor {
         
         return profile;
     }
-    
-    /**
-     * Extract name using feature scoring
-     */
-    private String extractName(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(NAME_PATTERN), 3, true));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), 2));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isAllUppercase(), 2));
-        
-        // Negative features to avoid mismatches
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(EMAIL_PATTERN), -4));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasNumber(), -4));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasComma(), -4));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-    
-    /**
-     * Extract email using feature scoring
-     */
-    private String extractEmail(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(EMAIL_PATTERN), 4, true));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), -1));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasComma(), -2));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-    
-    /**
-     * Extract phone using feature scoring
-     */
-    private String extractPhone(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(PHONE_PATTERN), 4, true));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.hasLetter(), -4));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-    
-    /**
-     * Extract location using feature scoring
-     */
-    private String extractLocation(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(CITY_STATE_PATTERN), 4, true));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), -1));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(EMAIL_PATTERN), -4));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-    
-    /**
-     * Extract URL using feature scoring
-     */
-    private String extractUrl(List<TextItem> textItems) {
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(URL_PATTERN), 4, true));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(URL_HTTP_PATTERN), 3, true));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(URL_WWW_PATTERN), 3, true));
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), -1));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(EMAIL_PATTERN), -4));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-    
-    /**
-     * Extract summary using simple heuristics
-     */
-    private String extractSummary(List<TextItem> textItems) {
-        // Define a feature function for text with 4+ words
-        FeatureScoringSystem.FeatureSet has4OrMoreWords = new FeatureScoringSystem.FeatureSet(
-            textItem -> textItem.getText().split("\\s+").length >= 4, 4);
-        
-        List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
-        featureSets.add(has4OrMoreWords);
-        
-        // Negative features
-        featureSets.add(new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), -1));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(EMAIL_PATTERN), -4));
-        featureSets.add(new FeatureScoringSystem.FeatureSet(
-            FeatureScoringSystem.matchesPattern(CITY_STATE_PATTERN), -4, false));
-        
-        return scoringSystem.getTextWithHighestFeatureScore(textItems, featureSets);
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -5,14 +5,32 @@ import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Profile;
 import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Education;
 import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Experience;
 import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Skills;
+import com.snapscreen.snapscreen_api.parser.ParserMetrics;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.parser.read.TextItemIndex;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main orchestrator for the resume extraction process.
  * Coordinates the extraction of different resume components from sections.
+ *
+ * The extractors read disjoint sections and share no mutable state, so by default they run
+ * concurrently: the first failure cancels the others, and the whole extraction is bounded by
+ * a deadline.
  */
 @Component
 public class ResumeExtractor {
@@ -20,17 +38,29 @@ public class ResumeExtractor {
     private final EducationExtractor educationExtractor;
     private final ExperienceExtractor experienceExtractor;
     private final SkillsExtractor skillsExtractor;
+    private final ExecutorService extractExecutor;
+    private final boolean concurrent;
+    private final long deadlineMillis;
+    private final ParserMetrics metrics;
 
     public ResumeExtractor(
         ProfileExtractor profileExtractor,
         EducationExtractor educationExtractor,
         ExperienceExtractor experienceExtractor,
-        SkillsExtractor skillsExtractor
+        SkillsExtractor skillsExtractor,
+        ParserMetrics metrics,
+        @Qualifier("parserExtractExecutor") ExecutorService extractExecutor,
+        @Value("${parser.concurrent-extraction:true}") boolean concurrent,
+        @Value("${parser.extract-deadline-ms:10000}") long deadlineMillis
     ) {
         this.profileExtractor = profileExtractor;
         this.educationExtractor = educationExtractor;
         this.experienceExtractor = experienceExtractor;
         this.skillsExtractor = skillsExtractor;
+        this.extractExecutor = extractExecutor;
+        this.concurrent = concurrent;
+        this.deadlineMillis = deadlineMillis;
+        this.metrics = metrics;
     }
 
     /**
@@ -39,18 +69,140 @@ public class ResumeExtractor {
      * @return A complete ParsedResume object with all extracted information
      */
     public ParsedResume extractResumeFromSections(Map<String, ResumeSection> sections) {
+        return extractResumeFromSections(sections, null);
+    }
+
+    /**
+     * Extract a complete resume from the grouped sections
+     * @param sections The grouped sections from the resume
+     * @param textItemIndex Spatial index over the document's text items, or null if unavailable
+     * @return A complete ParsedResume object with all extracted information
+     */
+    public ParsedResume extractResumeFromSections(Map<String, ResumeSection> sections, TextItemIndex textItemIndex) {
+        return extractResumeFromSections(sections, textItemIndex, ResumeField.all());
+    }
+
+    /**
+     * Extract the requested parts of a resume from the grouped sections
+     * @param sections The grouped sections from the resume
+     * @param textItemIndex Spatial index over the document's text items, or null if unavailable
+     * @param fields The parts to extract; extractors for other parts are not run
+     * @return A ParsedResume in which only the requested parts are filled in
+     */
+    public ParsedResume extractResumeFromSections(
+            Map<String, ResumeSection> sections,
+            TextItemIndex textItemIndex,
+            Set<ResumeField> fields) {
+        if (concurrent) {
+            return extractConcurrently(sections, textItemIndex, fields);
+        }
+
         // Extract profile information
-        Profile profile = profileExtractor.extractProfile(sections);
+        Profile profile = fields.contains(ResumeField.PROFILE)
+            ? extractProfile(sections) : null;
 
         // Extract education history
-        List<Education> educations = educationExtractor.extractEducation(sections);
+        List<Education> educations = fields.contains(ResumeField.EDUCATION)
+            ? extractEducation(sections) : null;
 
         // Extract work experience
-        List<Experience> experiences = experienceExtractor.extractExperience(sections);
+        List<Experience> experiences = fields.contains(ResumeField.EXPERIENCE)
+            ? extractExperience(sections, textItemIndex) : null;
 
         // Extract skills
-        Skills skills = skillsExtractor.extractSkills(sections);
+        Skills skills = fields.contains(ResumeField.SKILLS)
+            ? extractSkills(sections) : null;
+
+        return assemble(profile, educations, experiences, skills);
+    }
 
+    /**
+     * Run the extractors as concurrent subtasks. Fails fast: the first extractor to fail,
+     * or the deadline passing, cancels the remaining subtasks.
+     */
+    private ParsedResume extractConcurrently(
+            Map<String, ResumeSection> sections,
+            TextItemIndex textItemIndex,
+            Set<ResumeField> fields) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(extractExecutor);
+        List<Future<Object>> subtasks = new ArrayList<>(3);
+        try {
+            Future<Object> educations = fields.contains(ResumeField.EDUCATION)
+                ? fork(completionService, subtasks, () -> extractEducation(sections)) : null;
+            Future<Object> experiences = fields.contains(ResumeField.EXPERIENCE)
+                ? fork(completionService, subtasks, () -> extractExperience(sections, textItemIndex)) : null;
+            Future<Object> skills = fields.contains(ResumeField.SKILLS)
+                ? fork(completionService, subtasks, () -> extractSkills(sections)) : null;
+
+            // The caller extracts the profile itself instead of sitting idle
+            Profile profile = fields.contains(ResumeField.PROFILE)
+                ? extractProfile(sections) : null;
+
+            for (int i = 0; i < subtasks.size(); i++) {
+                long remaining = deadline - System.nanoTime();
+                Future<Object> done = completionService.poll(remaining, TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new IllegalStateException("Resume extraction did not finish within " + deadlineMillis + " ms");
+                }
+                done.get();
+            }
+
+            return assemble(profile, result(educations), result(experiences), result(skills));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while extracting resume", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to extract resume", e.getCause());
+        } finally {
+            for (Future<Object> subtask : subtasks) {
+                subtask.cancel(true);
+            }
+        }
+    }
+
+    // Each extractor is timed on the thread that runs it
+
+    private Profile extractProfile(Map<String, ResumeSection> sections) {
+        return metrics.timeExtractor(ResumeField.PROFILE, () -> profileExtractor.extractProfile(sections));
+    }
+
+    private List<Education> extractEducation(Map<String, ResumeSection> sections) {
+        return metrics.timeExtractor(ResumeField.EDUCATION, () -> educationExtractor.extractEducation(sections));
+    }
+
+    private List<Experience> extractExperience(Map<String, ResumeSection> sections, TextItemIndex textItemIndex) {
+        return metrics.timeExtractor(ResumeField.EXPERIENCE,
+            () -> experienceExtractor.extractExperience(sections, textItemIndex));
+    }
+
+    private Skills extractSkills(Map<String, ResumeSection> sections) {
+        return metrics.timeExtractor(ResumeField.SKILLS, () -> skillsExtractor.extractSkills(sections));
+    }
+
+    private static Future<Object> fork(
+            CompletionService<Object> completionService,
+            List<Future<Object>> subtasks,
+            Callable<Object> task) {
+        Future<Object> subtask = completionService.submit(task);
+        subtasks.add(subtask);
+        return subtask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T result(Future<Object> subtask) throws InterruptedException, ExecutionException {
+        // Only called once every subtask has completed; null for parts that were not requested
+        return subtask == null ? null : (T) subtask.get();
+    }
+
+    /**
+     * Combine the extracted components into a ParsedResume. Null components were not
+     * requested and keep their empty defaults.
+     */
+    private ParsedResume assemble(Profile profile, List<Education> educations, List<Experience> experiences, Skills skills) {
         // Create and return the complete ParsedResume
         ParsedResume parsedResume = new ParsedResume();
         if (profile != null) {
@@ -64,9 +216,15 @@ public class ResumeExtractor {
                 parsedResume.getSkills().getCertifications().addAll(profile.getLinks()); // Optionally store links
             }
         }
-        parsedResume.setEducations(educations);
-        parsedResume.setExperiences(experiences);
-        parsedResume.setSkills(skills);
+        if (educations != null) {
+            parsedResume.setEducations(educations);
+        }
+        if (experiences != null) {
+            parsedResume.setExperiences(experiences);
+        }
+        if (skills != null) {
+            parsedResume.setSkills(skills);
+        }
         // Optionally: set rawText, projects, certifications, etc. if available
         return parsedResume;
     }
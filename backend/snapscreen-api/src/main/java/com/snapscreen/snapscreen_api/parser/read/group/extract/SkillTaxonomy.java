@@ -0,0 +1,220 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.DictionaryMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Skill taxonomy used to classify and canonicalise the skills found in a resume.
+ *
+ * Every skill has an int id, a canonical name, a category and any number of aliases
+ * (e.g. "k8s" for Kubernetes). Names and aliases are stored in a single char pool behind an
+ * open-addressing table of ints, so a lookup costs one pass over the candidate and a few probes.
+ * Candidates that are not in the taxonomy are classified by the category keywords they contain.
+ */
+@Component
+public class SkillTaxonomy {
+
+    public enum Category {
+        TECHNICAL, LANGUAGE, CERTIFICATION, OTHER
+    }
+
+    private static final int EMPTY = -1;
+
+    // Skills, indexed by id
+    private final String[] names;
+    private final Category[] categories;
+
+    // Normalised key k is keyChars[keyOffsets[k] .. keyOffsets[k + 1]) and belongs to skill keySkill[k]
+    private final char[] keyChars;
+    private final int[] keyOffsets;
+    private final int[] keySkill;
+
+    // Open-addressing table of key indices, at most half full
+    private final int[] table;
+    private final int mask;
+
+    // Keywords that put an unknown candidate into a category, checked in category order
+    private final DictionaryMatcher[] categoryKeywords;
+
+    public SkillTaxonomy(@Value("${parser.skill-taxonomy:classpath:parser/skill-taxonomy.json}") Resource taxonomy) {
+        JsonNode root;
+        try (InputStream in = taxonomy.getInputStream()) {
+            root = new ObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load skill taxonomy from " + taxonomy.getDescription(), e);
+        }
+
+        List<String> skillNames = new ArrayList<>();
+        List<Category> skillCategories = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (JsonNode skill : root.path("skills")) {
+            int id = skillNames.size();
+            String name = skill.path("name").asText();
+            skillNames.add(name);
+            skillCategories.add(category(skill.path("category").asText(), name));
+            keys.add(normalise(name));
+            owners.add(id);
+            for (JsonNode alias : skill.path("aliases")) {
+                keys.add(normalise(alias.asText()));
+                owners.add(id);
+            }
+        }
+        this.names = skillNames.toArray(new String[0]);
+        this.categories = skillCategories.toArray(new Category[0]);
+
+        int capacity = Integer.highestOneBit(Math.max(2, keys.size()) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(table, EMPTY);
+
+        StringBuilder pool = new StringBuilder();
+        this.keyOffsets = new int[keys.size() + 1];
+        this.keySkill = new int[keys.size()];
+        for (int k = 0; k < keys.size(); k++) {
+            keyOffsets[k] = pool.length();
+            pool.append(keys.get(k));
+            keySkill[k] = owners.get(k);
+        }
+        keyOffsets[keys.size()] = pool.length();
+        this.keyChars = pool.toString().toCharArray();
+
+        for (int k = 0; k < keys.size(); k++) {
+            String key = keys.get(k);
+            int slot = find(key);
+            if (table[slot] != EMPTY) {
+                if (keySkill[table[slot]] != keySkill[k]) {
+                    throw new IllegalStateException("Skill alias '" + key + "' is used by both "
+                        + names[keySkill[table[slot]]] + " and " + names[keySkill[k]]);
+                }
+                continue;
+            }
+            table[slot] = k;
+        }
+
+        Category[] keywordCategories = { Category.TECHNICAL, Category.LANGUAGE, Category.CERTIFICATION };
+        this.categoryKeywords = new DictionaryMatcher[keywordCategories.length];
+        for (Category category : keywordCategories) {
+            List<String> words = new ArrayList<>();
+            root.path("keywords").path(category.name().toLowerCase(Locale.ROOT))
+                .forEach(word -> words.add(word.asText().toLowerCase(Locale.ROOT)));
+            categoryKeywords[category.ordinal()] = DictionaryMatcher.of(words);
+        }
+    }
+
+    /**
+     * Number of skills in the taxonomy
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Look up a skill by its name or one of its aliases, ignoring case and extra whitespace
+     * @param candidate The skill text found in the resume
+     * @return The skill id, or -1 if the candidate is not in the taxonomy
+     */
+    public int lookup(String candidate) {
+        int k = table[find(normalise(candidate))];
+        return k == EMPTY ? -1 : keySkill[k];
+    }
+
+    /**
+     * Get the canonical name of a skill
+     */
+    public String canonicalName(int skillId) {
+        return names[skillId];
+    }
+
+    /**
+     * Get the category of a skill
+     */
+    public Category category(int skillId) {
+        return categories[skillId];
+    }
+
+    /**
+     * Classify a candidate that is not in the taxonomy by the category keywords it contains.
+     * Technical keywords take precedence over language keywords, then certification keywords.
+     * @param candidate The skill text found in the resume
+     * @return The category, or OTHER if no keyword matches
+     */
+    public Category classifyByKeywords(String candidate) {
+        String lower = candidate.toLowerCase();
+        for (int c = 0; c < categoryKeywords.length; c++) {
+            if (categoryKeywords[c].containsAny(lower)) {
+                return Category.values()[c];
+            }
+        }
+        return Category.OTHER;
+    }
+
+    /**
+     * Slot of a key in the table: the slot holding it, or the empty slot where it belongs
+     */
+    private int find(String key) {
+        int slot = spread(key.hashCode()) & mask;
+        while (table[slot] != EMPTY && !keyEquals(table[slot], key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean keyEquals(int k, String key) {
+        int offset = keyOffsets[k];
+        int length = keyOffsets[k + 1] - offset;
+        if (length != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (keyChars[offset + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Lower case, trimmed, with runs of whitespace collapsed to a single space
+     */
+    static String normalise(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = key.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    private static Category category(String category, String skill) {
+        try {
+            return Category.valueOf(category.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown category '" + category + "' for skill " + skill, e);
+        }
+    }
+}
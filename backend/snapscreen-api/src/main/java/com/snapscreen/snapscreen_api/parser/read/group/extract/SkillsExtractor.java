@@ -24,24 +24,14 @@ import java.util.stream.Collectors;
 public class SkillsExtractor {
 
     private final SubsectionExtractor subsectionExtractor;
+    private final SkillTaxonomy skillTaxonomy;
     
-    // Common skill keywords to identify technical skills
-//    private static final List<String> TECHNICAL_SKILL_KEYWORDS = Arrays.asList(
-//        "programming", "languages", "technical", "technologies", "tools", "frameworks", "software"
-//    );
+    // Short standalone words (e.g. acronyms) are treated as certifications
+    private static final Pattern SHORT_WORD_PATTERN = Pattern.compile("\\b[a-z]{2,5}\\b", Pattern.CASE_INSENSITIVE);
     
-    // Common language keywords to identify language skills
-    private static final List<String> LANGUAGE_SKILL_KEYWORDS = Arrays.asList(
-        "language", "languages", "fluent", "native", "bilingual", "multilingual"
-    );
-    
-    // Common certification keywords to identify certifications
-    private static final List<String> CERTIFICATION_KEYWORDS = Arrays.asList(
-        "certification", "certificate", "certified", "license", "accredited"
-    );
-    
-    public SkillsExtractor(SubsectionExtractor subsectionExtractor) {
+    public SkillsExtractor(SubsectionExtractor subsectionExtractor, SkillTaxonomy skillTaxonomy) {
         this.subsectionExtractor = subsectionExtractor;
+        this.skillTaxonomy = skillTaxonomy;
     }
     
     /**
@@ -129,17 +119,35 @@ public class SkillsExtractor {
             }
         }
         
-        // Add skills to the Skills object
+        // Add skills to the Skills object, using the canonical name of known skills
+        Set<String> addedSkills = new HashSet<>();
         for (String skill : processedSkills) {
-            if (isTechnicalSkill(skill)) {
-                skills.addSkill(skill);
-            } else if (isLanguage(skill)) {
-                skills.addLanguage(skill);
-            } else if (isCertification(skill)) {
-                skills.addCertification(skill);
-            } else {
-                // Default to regular skill
-                skills.addSkill(skill);
+            int skillId = skillTaxonomy.lookup(skill);
+            String name = skillId >= 0 ? skillTaxonomy.canonicalName(skillId) : skill;
+            if (!addedSkills.add(name)) {
+                continue;
+            }
+            
+            SkillTaxonomy.Category category = skillId >= 0
+                ? skillTaxonomy.category(skillId)
+                : skillTaxonomy.classifyByKeywords(skill);
+            switch (category) {
+                case TECHNICAL:
+                    skills.addSkill(name);
+                    break;
+                case LANGUAGE:
+                    skills.addLanguage(name);
+                    break;
+                case CERTIFICATION:
+                    skills.addCertification(name);
+                    break;
+                default:
+                    if (SHORT_WORD_PATTERN.matcher(name).find()) {
+                        skills.addCertification(name);
+                    } else {
+                        // Default to regular skill
+                        skills.addSkill(name);
+                    }
             }
         }
     }
@@ -169,7 +177,12 @@ public class SkillsExtractor {
                 if (!trimmed.isEmpty() && trimmed.length() > 1) {
                     // Extract just the language name if proficiency level is included
                     String[] langParts = trimmed.split("[:-]");
-                    skills.addLanguage(langParts[0].trim());
+                    String languageName = langParts[0].trim();
+                    int skillId = skillTaxonomy.lookup(languageName);
+                    if (skillId >= 0 && skillTaxonomy.category(skillId) == SkillTaxonomy.Category.LANGUAGE) {
+                        languageName = skillTaxonomy.canonicalName(skillId);
+                    }
+                    skills.addLanguage(languageName);
                 }
             }
         }
@@ -219,48 +232,4 @@ public class SkillsExtractor {
             .filter(s -> !s.isEmpty() && s.length() > 1)
             .collect(Collectors.toList());
     }
-    
-    /**
-     * Check if a skill is a technical skill
-     */
-    private boolean isTechnicalSkill(String skill) {
-        // Check common programming languages and technologies
-        List<String> techKeywords = Arrays.asList(
-            "java", "python", "javascript", "typescript", "c++", "c#", "ruby", "php",
-            "html", "css", "sql", "nosql", "react", "angular", "vue", "node",
-            "express", "django", "spring", "aws", "azure", "gcp", "docker", "kubernetes",
-            "linux", "unix", "git", "github", "agile", "scrum", "rest", "api",
-            "database", "mongodb", "mysql", "postgresql", "oracle", "algorithm"
-        );
-        
-        String lowerSkill = skill.toLowerCase();
-        return techKeywords.stream().anyMatch(lowerSkill::contains);
-    }
-    
-    /**
-     * Check if a skill is a language
-     */
-    private boolean isLanguage(String skill) {
-        // Common languages
-        List<String> languages = Arrays.asList(
-            "english", "spanish", "french", "german", "italian", "chinese", "japanese",
-            "korean", "russian", "arabic", "hindi", "portuguese", "dutch", "swedish",
-            "danish", "finnish", "norwegian", "greek", "turkish", "polish", "czech",
-            "vietnamese", "thai", "indonesian", "malay", "tagalog", "hebrew"
-        );
-        
-        String lowerSkill = skill.toLowerCase();
-        return languages.stream().anyMatch(lowerSkill::contains) ||
-               LANGUAGE_SKILL_KEYWORDS.stream().anyMatch(lowerSkill::contains);
-    }
-    
-    /**
-     * Check if a skill is a certification
-     */
-    private boolean isCertification(String skill) {
-        String lowerSkill = skill.toLowerCase();
-        return CERTIFICATION_KEYWORDS.stream().anyMatch(lowerSkill::contains) ||
-               lowerSkill.contains("certified") ||
-               Pattern.compile("\\b[a-z]{2,5}\\b", Pattern.CASE_INSENSITIVE).matcher(lowerSkill).find();
-    }
-} 
\ No newline at end of file
+}
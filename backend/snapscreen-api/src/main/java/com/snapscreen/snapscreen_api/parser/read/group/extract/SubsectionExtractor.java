@@ -1,14 +1,13 @@
 package com.snapscreen.snapscreen_api.parser.read.group.extract;
 
 import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.BulletClassifier;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.scoring.BulletSplitter;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for dividing resume sections into subsections and
@@ -18,12 +17,12 @@ import java.util.stream.Collectors;
 @Component
 public class SubsectionExtractor {
 
-    // List of bullet point characters to detect
-    private static final List<String> BULLET_POINTS = Arrays.asList(
-        "⋅", "∙", "🞄", "•", "⦁", "⚫︎", "●", "⬤", "⚬", "○", 
-        "-", "○", "▪", "■", "◦", "»", "►", "✓", "✔", "★", "☆", "*"
-    );
-    
+    // Rounded line gaps above this many points are never the typical gap and are not counted
+    private static final int MAX_COUNTED_GAP = 200;
+
+    // Per-thread histogram of rounded line gaps, cleared before each use
+    private static final ThreadLocal<int[]> GAP_COUNTS = ThreadLocal.withInitial(() -> new int[MAX_COUNTED_GAP + 1]);
+
     /**
      * Divide lines into subsections based on formatting and spacing
      * @param lines List of resume lines
@@ -62,11 +61,13 @@ public class SubsectionExtractor {
             ResumeLine prevLine = lines.get(i-1);
             ResumeLine currentLine = lines.get(i);
             
-            // Calculate line gap
+            // Calculate line gap; positions on different pages are not comparable,
+            // a page break counts as a large gap
+            boolean pageBreak = prevLine.getPageNumber() != currentLine.getPageNumber();
             float lineGap = Math.abs(prevLine.getY() - currentLine.getY());
             
             // If gap is larger than threshold, start a new subsection
-            if (lineGap > subsectionThreshold) {
+            if (pageBreak || lineGap > subsectionThreshold) {
                 subsections.add(currentSubsection);
                 currentSubsection = new ArrayList<>();
             }
@@ -86,24 +87,27 @@ public class SubsectionExtractor {
      * Calculate the typical line gap in a set of lines
      */
     private float calculateTypicalLineGap(List<ResumeLine> lines) {
-        // Extract y-positions
-        List<Float> lineYs = lines.stream()
-            .map(ResumeLine::getY)
-            .collect(Collectors.toList());
-        
-        // Calculate gaps between consecutive lines
-        Map<Float, Integer> gapCounts = new HashMap<>();
-        float mostCommonGap = 0;
+        // Count the rounded gaps between consecutive lines of the same page
+        int[] gapCounts = GAP_COUNTS.get();
+        Arrays.fill(gapCounts, 0);
+        int mostCommonGap = 0;
         int maxCount = 0;
         
-        for (int i = 1; i < lineYs.size(); i++) {
-            float gap = Math.abs(lineYs.get(i) - lineYs.get(i-1));
-            gap = Math.round(gap);
+        for (int i = 1; i < lines.size(); i++) {
+            ResumeLine prevLine = lines.get(i-1);
+            ResumeLine currentLine = lines.get(i);
+            if (prevLine.getPageNumber() != currentLine.getPageNumber()) {
+                continue;
+            }
             
-            gapCounts.put(gap, gapCounts.getOrDefault(gap, 0) + 1);
+            int gap = Math.round(Math.abs(currentLine.getY() - prevLine.getY()));
+            if (gap > MAX_COUNTED_GAP) {
+                continue;
+            }
             
-            if (gapCounts.get(gap) > maxCount) {
-                maxCount = gapCounts.get(gap);
+            // The first gap to reach a new highest count wins ties, as before
+            if (++gapCounts[gap] > maxCount) {
+                maxCount = gapCounts[gap];
                 mostCommonGap = gap;
             }
         }
@@ -124,7 +128,7 @@ public class SubsectionExtractor {
             // Check if line starts with bold text and is not a bullet point
             boolean startsWithBold = !line.getTextItems().isEmpty() && 
                                     line.getTextItems().get(0).isBold() &&
-                                    !containsBulletPoint(line.getText());
+                                    !BulletClassifier.containsBullet(line.getText());
             
             if (startsWithBold && !currentSubsection.isEmpty()) {
                 // Start a new subsection
@@ -143,13 +147,6 @@ public class SubsectionExtractor {
         return subsections;
     }
     
-    /**
-     * Check if text contains a bullet point
-     */
-    private boolean containsBulletPoint(String text) {
-        return BULLET_POINTS.stream().anyMatch(text::contains);
-    }
-    
     /**
      * Get the index of the line where descriptions/bullet points start
      * @param lines List of resume lines
@@ -158,7 +155,7 @@ public class SubsectionExtractor {
     public int getDescriptionsLineIdx(List<ResumeLine> lines) {
         // First try to find by bullet points
         for (int i = 0; i < lines.size(); i++) {
-            if (containsBulletPoint(lines.get(i).getText())) {
+            if (BulletClassifier.containsBullet(lines.get(i).getText())) {
                 return i;
             }
         }
@@ -180,52 +177,23 @@ public class SubsectionExtractor {
      * @return List of extracted bullet point text
      */
     public List<String> getBulletPointsFromLines(List<ResumeLine> lines) {
-        // Find the most common bullet point character
-        String mostCommonBulletPoint = findMostCommonBulletPoint(lines);
-        
-        // If no bullet points found, just return the text of each line
-        if (mostCommonBulletPoint == null) {
-            return lines.stream()
-                .map(ResumeLine::getText)
-                .filter(text -> !text.trim().isEmpty())
-                .collect(Collectors.toList());
+        List<BulletSplitter.BulletPoint> bulletPoints = getBulletPointSpansFromLines(lines);
+        List<String> texts = new ArrayList<>(bulletPoints.size());
+        for (BulletSplitter.BulletPoint bulletPoint : bulletPoints) {
+            texts.add(bulletPoint.text());
         }
-        
-        // Combine all text
-        String allText = lines.stream()
-            .map(ResumeLine::getText)
-            .collect(Collectors.joining(" "));
-        
-        // Split by bullet point
-        String[] parts = allText.split(java.util.regex.Pattern.quote(mostCommonBulletPoint));
-        
-        // Process and clean up bullet points
-        return Arrays.stream(parts)
-            .map(String::trim)
-            .filter(text -> !text.isEmpty())
-            .collect(Collectors.toList());
+        return texts;
     }
     
     /**
-     * Find the most common bullet point character in a set of lines
+     * Extract bullet points from a set of lines, together with the line and offset
+     * each one starts and ends at, e.g. for highlighting them in the source
+     * @param lines List of lines that contain bullet points
+     * @return List of extracted bullet points
      */
-    private String findMostCommonBulletPoint(List<ResumeLine> lines) {
-        Map<String, Integer> bulletCounts = new HashMap<>();
-        
-        // Count all bullet points
-        for (ResumeLine line : lines) {
-            String text = line.getText();
-            for (String bullet : BULLET_POINTS) {
-                if (text.contains(bullet)) {
-                    bulletCounts.put(bullet, bulletCounts.getOrDefault(bullet, 0) + 1);
-                }
-            }
-        }
-        
-        // Find the most common
-        return bulletCounts.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(null);
+    public List<BulletSplitter.BulletPoint> getBulletPointSpansFromLines(List<ResumeLine> lines) {
+        // Split at the most common bullet point character; without any, every
+        // non-blank line is a bullet point of its own
+        return BulletSplitter.split(lines, BulletClassifier.mostCommonKind(lines));
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
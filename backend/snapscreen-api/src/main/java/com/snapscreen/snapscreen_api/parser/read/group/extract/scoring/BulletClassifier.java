@@ -0,0 +1,155 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Recognises bullet point characters with a lookup table indexed by code point,
+ * so classifying a line is a single pass over its characters.
+ * A bullet may be followed by a text or emoji variation selector (e.g. "⚫︎"),
+ * which is treated as part of the bullet.
+ */
+public final class BulletClassifier {
+
+    // Bullet code points, in order of preference when two are equally common
+    private static final int[] BULLETS = {
+        '⋅', '∙', 0x1F784, '•', '⦁', '⚫', '●', '⬤', '⚬', '○',
+        '-', '▪', '■', '◦', '»', '►', '✓', '✔', '★', '☆', '*',
+        '◆', '◇', '□', '▫'
+    };
+
+    /**
+     * Number of distinct bullet kinds; kinds are numbered from 0 in order of preference
+     */
+    public static final int KINDS = BULLETS.length;
+
+    private static final int VARIATION_SELECTOR_TEXT = 0xFE0E;
+    private static final int VARIATION_SELECTOR_EMOJI = 0xFE0F;
+
+    private static final BitSet TABLE = new BitSet();
+
+    // BULLETS sorted, to map a bullet back to its kind
+    private static final int[] SORTED = BULLETS.clone();
+    private static final int[] SORTED_KINDS = new int[BULLETS.length];
+
+    static {
+        for (int bullet : BULLETS) {
+            TABLE.set(bullet);
+        }
+        Arrays.sort(SORTED);
+        for (int i = 0; i < SORTED.length; i++) {
+            SORTED_KINDS[i] = indexOf(SORTED[i]);
+        }
+    }
+
+    private BulletClassifier() {
+    }
+
+    /**
+     * Check if a code point is a bullet point character
+     */
+    public static boolean isBullet(int codePoint) {
+        return TABLE.get(codePoint);
+    }
+
+    /**
+     * @return The kind of a bullet code point, or -1 if it is not a bullet
+     */
+    public static int kindOf(int codePoint) {
+        if (!TABLE.get(codePoint)) {
+            return -1;
+        }
+        return SORTED_KINDS[Arrays.binarySearch(SORTED, codePoint)];
+    }
+
+    /**
+     * @return The code point of a bullet kind
+     */
+    public static int bullet(int kind) {
+        return BULLETS[kind];
+    }
+
+    /**
+     * Check if text contains a bullet point
+     */
+    public static boolean containsBullet(String text) {
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (TABLE.get(codePoint)) {
+                return true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return false;
+    }
+
+    /**
+     * @return A mask with bit k set if the text contains a bullet of kind k
+     */
+    public static long bulletKinds(String text) {
+        long kinds = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (TABLE.get(codePoint)) {
+                kinds |= 1L << kindOf(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return kinds;
+    }
+
+    /**
+     * Find the bullet kind that appears on the most lines
+     * @param lines The lines to look at
+     * @return The most common bullet kind, or -1 if no line contains a bullet
+     */
+    public static int mostCommonKind(List<ResumeLine> lines) {
+        int[] lineCounts = new int[KINDS];
+        for (ResumeLine line : lines) {
+            long kinds = bulletKinds(line.getText());
+            while (kinds != 0) {
+                lineCounts[Long.numberOfTrailingZeros(kinds)]++;
+                kinds &= kinds - 1;
+            }
+        }
+
+        int best = -1;
+        for (int kind = 0; kind < KINDS; kind++) {
+            if (lineCounts[kind] > 0 && (best == -1 || lineCounts[kind] > lineCounts[best])) {
+                best = kind;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return The length in chars of the bullet starting at index, including a trailing
+     *         variation selector, or 0 if there is no bullet at index
+     */
+    public static int bulletLength(CharSequence text, int index) {
+        int codePoint = Character.codePointAt(text, index);
+        if (!TABLE.get(codePoint)) {
+            return 0;
+        }
+        int length = Character.charCount(codePoint);
+        if (index + length < text.length()) {
+            char next = text.charAt(index + length);
+            if (next == VARIATION_SELECTOR_TEXT || next == VARIATION_SELECTOR_EMOJI) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static int indexOf(int bullet) {
+        for (int i = 0; i < BULLETS.length; i++) {
+            if (BULLETS[i] == bullet) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
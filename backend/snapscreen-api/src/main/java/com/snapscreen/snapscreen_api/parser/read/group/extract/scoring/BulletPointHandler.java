@@ -12,7 +12,6 @@ import java.util.regex.Pattern;
  */
 @Component
 public class BulletPointHandler {
-    private static final Pattern BULLET_POINT_PATTERN = Pattern.compile("^[•●○◆◇■□▪▫]");
     private static final Pattern NUMBERED_PATTERN = Pattern.compile("^\\d+[.)]");
 
     /**
@@ -20,7 +19,7 @@ public class BulletPointHandler {
      */
     public boolean isBulletPoint(TextItem item) {
         String text = item.getText().trim();
-        return BULLET_POINT_PATTERN.matcher(text).find() || 
+        return (!text.isEmpty() && BulletClassifier.isBullet(text.codePointAt(0))) ||
                NUMBERED_PATTERN.matcher(text).find();
     }
 
@@ -30,7 +29,9 @@ public class BulletPointHandler {
     public String extractBulletPointContent(TextItem item) {
         String text = item.getText().trim();
         // Remove bullet point marker
-        text = BULLET_POINT_PATTERN.matcher(text).replaceFirst("").trim();
+        if (!text.isEmpty()) {
+            text = text.substring(BulletClassifier.bulletLength(text, 0)).trim();
+        }
         // Remove numbered list marker
         text = NUMBERED_PATTERN.matcher(text).replaceFirst("").trim();
         return text;
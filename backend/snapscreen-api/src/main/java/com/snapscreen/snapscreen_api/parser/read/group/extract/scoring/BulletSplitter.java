@@ -0,0 +1,133 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits consecutive lines into bullet points without joining them first.
+ * The lines are walked once; every bullet point records where it starts and ends
+ * as (line, offset) positions, so callers can map it back to the source lines.
+ */
+public final class BulletSplitter {
+
+    /**
+     * A bullet point and its position in the lines it was split from
+     * @param text The trimmed text, lines joined with a single space
+     * @param startLine Index of the line the text starts on
+     * @param startOffset Offset of the first char within the start line
+     * @param endLine Index of the line the text ends on
+     * @param endOffset Offset just past the last char within the end line
+     */
+    public record BulletPoint(String text, int startLine, int startOffset, int endLine, int endOffset) {
+    }
+
+    private BulletSplitter() {
+    }
+
+    /**
+     * Split lines at every bullet of one kind. Text runs on across line breaks
+     * until the next bullet; empty bullet points are dropped.
+     * @param lines The lines to split
+     * @param kind The bullet kind to split at (see {@link BulletClassifier}), or -1 to
+     *             return every non-blank line as it is
+     * @return The bullet points, in order
+     */
+    public static List<BulletPoint> split(List<ResumeLine> lines, int kind) {
+        List<BulletPoint> bulletPoints = new ArrayList<>();
+        if (kind == -1) {
+            for (int l = 0; l < lines.size(); l++) {
+                String text = lines.get(l).getText();
+                if (!text.trim().isEmpty()) {
+                    bulletPoints.add(new BulletPoint(text, l, 0, l, text.length()));
+                }
+            }
+            return bulletPoints;
+        }
+
+        int bullet = BulletClassifier.bullet(kind);
+        int startLine = 0;
+        int startOffset = 0;
+        for (int l = 0; l < lines.size(); l++) {
+            String text = lines.get(l).getText();
+            for (int i = 0; i < text.length(); ) {
+                int codePoint = text.codePointAt(i);
+                if (codePoint == bullet) {
+                    emit(lines, startLine, startOffset, l, i, bulletPoints);
+                    i += BulletClassifier.bulletLength(text, i);
+                    startLine = l;
+                    startOffset = i;
+                } else {
+                    i += Character.charCount(codePoint);
+                }
+            }
+        }
+        if (!lines.isEmpty()) {
+            int lastLine = lines.size() - 1;
+            emit(lines, startLine, startOffset, lastLine, lines.get(lastLine).getText().length(), bulletPoints);
+        }
+        return bulletPoints;
+    }
+
+    /**
+     * Trim the span [start, end) like String.trim and add it unless it is empty
+     */
+    private static void emit(
+            List<ResumeLine> lines,
+            int startLine, int startOffset,
+            int endLine, int endOffset,
+            List<BulletPoint> out) {
+        // Skip leading whitespace, possibly onto later lines
+        while (true) {
+            String text = lines.get(startLine).getText();
+            int limit = startLine == endLine ? endOffset : text.length();
+            while (startOffset < limit && text.charAt(startOffset) <= ' ') {
+                startOffset++;
+            }
+            if (startOffset < limit) {
+                break;
+            }
+            if (startLine == endLine) {
+                return;
+            }
+            startLine++;
+            startOffset = 0;
+        }
+
+        // Skip trailing whitespace, stops at the first char found above at the latest
+        while (true) {
+            String text = lines.get(endLine).getText();
+            int limit = endLine == startLine ? startOffset : 0;
+            while (endOffset > limit && text.charAt(endOffset - 1) <= ' ') {
+                endOffset--;
+            }
+            if (endOffset > limit) {
+                break;
+            }
+            endLine--;
+            endOffset = lines.get(endLine).getText().length();
+        }
+
+        out.add(new BulletPoint(text(lines, startLine, startOffset, endLine, endOffset),
+            startLine, startOffset, endLine, endOffset));
+    }
+
+    private static String text(List<ResumeLine> lines, int startLine, int startOffset, int endLine, int endOffset) {
+        if (startLine == endLine) {
+            return lines.get(startLine).getText().substring(startOffset, endOffset);
+        }
+
+        int length = endOffset - startOffset + (endLine - startLine);
+        for (int l = startLine; l < endLine; l++) {
+            length += lines.get(l).getText().length();
+        }
+        StringBuilder text = new StringBuilder(length);
+        text.append(lines.get(startLine).getText(), startOffset, lines.get(startLine).getText().length());
+        for (int l = startLine + 1; l < endLine; l++) {
+            text.append(' ').append(lines.get(l).getText());
+        }
+        text.append(' ').append(lines.get(endLine).getText(), 0, endOffset);
+        return text.toString();
+    }
+}
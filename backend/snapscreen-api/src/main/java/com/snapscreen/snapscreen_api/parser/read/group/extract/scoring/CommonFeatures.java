@@ -1,11 +1,7 @@
 package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
 
-import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -14,97 +10,89 @@ import java.util.regex.Pattern;
  */
 @Component
 public class CommonFeatures {
-    private static final List<String> MONTHS = Arrays.asList(
-        "January", "February", "March", "April", "May", "June",
-        "July", "August", "September", "October", "November", "December"
-    );
-    
-    private static final List<String> SEASONS = Arrays.asList(
-        "Summer", "Fall", "Spring", "Winter"
-    );
+    private static final Pattern LETTERS_SPACES_AMPERSANDS = Pattern.compile("^[A-Za-z\\s&]+$");
+
+    private static final FeaturePredicate HAS_YEAR = FeatureBits.predicate(FeatureBits.HAS_YEAR);
+    private static final FeaturePredicate HAS_MONTH = FeatureBits.predicate(FeatureBits.HAS_MONTH);
+    private static final FeaturePredicate HAS_SEASON = FeatureBits.predicate(FeatureBits.HAS_SEASON);
+    private static final FeaturePredicate HAS_PRESENT = FeatureBits.predicate(FeatureBits.HAS_PRESENT);
 
     /**
      * Check if text item is bold based on font name
      */
-    public static Function<TextItem, Boolean> isBold() {
-        return TextItem::isBold;
+    public static FeaturePredicate isBold() {
+        return FeatureScoringSystem.isBold();
     }
 
     /**
      * Check if text item contains letters
      */
-    public static Function<TextItem, Boolean> hasLetter() {
-        return item -> Pattern.compile("[a-zA-Z]").matcher(item.getText()).find();
+    public static FeaturePredicate hasLetter() {
+        return FeatureScoringSystem.hasLetter();
     }
 
     /**
      * Check if text item contains numbers
      */
-    public static Function<TextItem, Boolean> hasNumber() {
-        return item -> Pattern.compile("[0-9]").matcher(item.getText()).find();
+    public static FeaturePredicate hasNumber() {
+        return FeatureScoringSystem.hasNumber();
     }
 
     /**
      * Check if text item contains commas
      */
-    public static Function<TextItem, Boolean> hasComma() {
-        return item -> item.getText().contains(",");
+    public static FeaturePredicate hasComma() {
+        return FeatureScoringSystem.hasComma();
     }
 
     /**
      * Check if text item contains specific text
      */
-    public static Function<TextItem, Boolean> containsText(String text) {
+    public static FeaturePredicate containsText(String text) {
         return item -> item.getText().contains(text);
     }
 
     /**
      * Check if text item contains only letters, spaces, and ampersands
      */
-    public static Function<TextItem, Boolean> hasOnlyLettersSpacesAmpersands() {
-        return item -> Pattern.compile("^[A-Za-z\\s&]+$").matcher(item.getText()).matches();
+    public static FeaturePredicate hasOnlyLettersSpacesAmpersands() {
+        return item -> LETTERS_SPACES_AMPERSANDS.matcher(item.getText()).matches();
     }
 
     /**
      * Check if text item has letters and is all uppercase
      */
-    public static Function<TextItem, Boolean> hasLetterAndIsAllUpperCase() {
-        return item -> {
-            String text = item.getText();
-            return hasLetter().apply(item) && text.equals(text.toUpperCase());
-        };
+    public static FeaturePredicate hasLetterAndIsAllUpperCase() {
+        // With an ASCII letter present, equal to its upper case means all caps
+        long mask = FeatureBits.HAS_LETTER | FeatureBits.ALL_UPPERCASE;
+        return item -> (FeatureBits.of(item) & mask) == mask;
     }
 
     /**
      * Check if text item contains a year (19xx or 20xx)
      */
-    public static Function<TextItem, Boolean> hasYear() {
-        return item -> Pattern.compile("(?:19|20)\\d{2}").matcher(item.getText()).find();
+    public static FeaturePredicate hasYear() {
+        return HAS_YEAR;
     }
 
     /**
-     * Check if text item contains a month name
+     * Check if text item contains a month name or its three-letter abbreviation
      */
-    public static Function<TextItem, Boolean> hasMonth() {
-        return item -> MONTHS.stream().anyMatch(month -> 
-            item.getText().contains(month) || 
-            item.getText().contains(month.substring(0, 4))
-        );
+    public static FeaturePredicate hasMonth() {
+        return HAS_MONTH;
     }
 
     /**
      * Check if text item contains a season name
      */
-    public static Function<TextItem, Boolean> hasSeason() {
-        return item -> SEASONS.stream().anyMatch(season -> 
-            item.getText().contains(season)
-        );
+    public static FeaturePredicate hasSeason() {
+        return HAS_SEASON;
     }
 
     /**
      * Check if text item contains "Present"
      */
-    public static Function<TextItem, Boolean> hasPresent() {
-        return item -> item.getText().contains("Present");
+    public static FeaturePredicate hasPresent() {
+        return HAS_PRESENT;
     }
 } 
\ No newline at end of file
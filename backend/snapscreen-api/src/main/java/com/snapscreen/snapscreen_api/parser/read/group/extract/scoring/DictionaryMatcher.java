@@ -0,0 +1,249 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a dictionary of words.
+ *
+ * Finds every dictionary word in a text with one left-to-right scan, however large the
+ * dictionary is. Matching is case-sensitive; in whole-word mode a hit must be delimited by
+ * whitespace or the ends of the text, which is the same as comparing whitespace-split tokens.
+ */
+public final class DictionaryMatcher {
+
+    /**
+     * A dictionary word found in a text
+     * @param word Index of the word in the dictionary
+     * @param start Start offset in the text, inclusive
+     * @param end End offset in the text, exclusive
+     */
+    public record Match(int word, int start, int end) {
+    }
+
+    private final String[] words;
+
+    // Goto edges of state s are edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1]), sorted by char
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    private final int[] fail;
+    // Word ending at a state (or -1), and the nearest state down the fail chain that ends a word (or -1)
+    private final int[] output;
+    private final int[] outputLink;
+
+    private DictionaryMatcher(String[] words, int[] edgeStart, char[] edgeChars, int[] edgeTargets,
+                              int[] fail, int[] output, int[] outputLink) {
+        this.words = words;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * Build a matcher for a dictionary
+     * @param dictionary The words to find; duplicates are ignored
+     * @return The matcher
+     */
+    public static DictionaryMatcher of(Collection<String> dictionary) {
+        // Build the trie with sorted child maps
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(-1);
+
+        for (String word : dictionary) {
+            if (word == null || word.isEmpty()) {
+                throw new IllegalArgumentException("Dictionary words must not be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = children.get(state).get(word.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(-1);
+                    children.get(state).put(word.charAt(i), next);
+                }
+                state = next;
+            }
+            if (terminal.get(state) < 0) {
+                terminal.set(state, words.size());
+                words.add(word);
+            }
+        }
+
+        // Renumber states in breadth-first order, which is also the order fail links are resolved in
+        int size = children.size();
+        int[] order = new int[size];
+        int[] renumbered = new int[size];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        int count = 0;
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            renumbered[state] = count;
+            order[count++] = state;
+            queue.addAll(children.get(state).values());
+        }
+
+        int[] edgeStart = new int[size + 1];
+        char[] edgeChars = new char[size - 1];
+        int[] edgeTargets = new int[size - 1];
+        int[] output = new int[size];
+        int edge = 0;
+        for (int s = 0; s < size; s++) {
+            int old = order[s];
+            edgeStart[s] = edge;
+            for (Map.Entry<Character, Integer> child : children.get(old).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = renumbered[child.getValue()];
+                edge++;
+            }
+            output[s] = terminal.get(old);
+        }
+        edgeStart[size] = edge;
+
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        outputLink[0] = -1;
+        for (int s = 0; s < size; s++) {
+            for (int e = edgeStart[s]; e < edgeStart[s + 1]; e++) {
+                int target = edgeTargets[e];
+                int f = 0;
+                if (s != 0) {
+                    f = fail[s];
+                    int next;
+                    while ((next = step(edgeStart, edgeChars, edgeTargets, f, edgeChars[e])) < 0 && f != 0) {
+                        f = fail[f];
+                    }
+                    f = next >= 0 ? next : 0;
+                }
+                fail[target] = f;
+                outputLink[target] = output[f] >= 0 ? f : outputLink[f];
+            }
+        }
+
+        return new DictionaryMatcher(words.toArray(new String[0]), edgeStart, edgeChars, edgeTargets,
+            fail, output, outputLink);
+    }
+
+    /**
+     * Number of distinct words in the dictionary
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Get a dictionary word by the index reported in a {@link Match}
+     */
+    public String word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Check whether any dictionary word occurs in the text, anywhere
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (output[state] >= 0 || outputLink[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether any dictionary word occurs in the text as a whole whitespace-delimited word
+     */
+    public boolean containsAnyWord(CharSequence text) {
+        int length = text.length();
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = next(state, text.charAt(i));
+            if (i + 1 < length && !isWhitespace(text.charAt(i + 1))) {
+                continue;
+            }
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int start = i + 1 - words[output[s]].length();
+                if (start == 0 || isWhitespace(text.charAt(start - 1))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find every occurrence of a dictionary word in the text
+     * @param text The text to scan
+     * @param wholeWords Whether hits must be whitespace-delimited words
+     * @return The hits, ordered by end offset, then longest first
+     */
+    public List<Match> findAll(CharSequence text, boolean wholeWords) {
+        List<Match> matches = new ArrayList<>();
+        int length = text.length();
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = next(state, text.charAt(i));
+            if (wholeWords && i + 1 < length && !isWhitespace(text.charAt(i + 1))) {
+                continue;
+            }
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int word = output[s];
+                int start = i + 1 - words[word].length();
+                if (!wholeWords || start == 0 || isWhitespace(text.charAt(start - 1))) {
+                    matches.add(new Match(word, start, i + 1));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = step(edgeStart, edgeChars, edgeTargets, state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int step(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    // Same set as the regex \s
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,95 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+import java.util.List;
+
+/**
+ * Base features of a text item packed into a single long.
+ *
+ * The bitmask is computed once per item and cached on the item, so the features shared
+ * by every extractor are not re-evaluated for each field. Scorers turn their base features
+ * into a weight per bit (see {@link FeatureScorer}).
+ */
+public final class FeatureBits {
+
+    public static final long BOLD = 1L;
+    public static final long HAS_LETTER = 1L << 1;
+    public static final long HAS_NUMBER = 1L << 2;
+    public static final long HAS_COMMA = 1L << 3;
+    public static final long ALL_UPPERCASE = 1L << 4;
+    public static final long HAS_YEAR = 1L << 5;
+    public static final long HAS_MONTH = 1L << 6;
+    public static final long HAS_SEASON = 1L << 7;
+    public static final long HAS_PRESENT = 1L << 8;
+
+    // Number of defined feature bits
+    public static final int COUNT = 9;
+
+    // Marks a computed bitmask, so an item without any feature is not recomputed
+    private static final long COMPUTED = 1L << 63;
+
+    private FeatureBits() {
+    }
+
+    /**
+     * Get the feature bits of a text item, computing and caching them on first use
+     * @param textItem The text item
+     * @return The feature bitmask
+     */
+    public static long of(TextItem textItem) {
+        long bits = textItem.getFeatureBits();
+        if (bits == 0) {
+            bits = compute(textItem) | COMPUTED;
+            textItem.setFeatureBits(bits);
+        }
+        return bits;
+    }
+
+    /**
+     * Compute and cache the feature bits of all items up front
+     * @param textItems The document's text items
+     */
+    public static void annotate(List<TextItem> textItems) {
+        for (TextItem textItem : textItems) {
+            of(textItem);
+        }
+    }
+
+    /**
+     * Compute the feature bits of a text item without caching them
+     */
+    static long compute(TextItem textItem) {
+        long bits = TextLexer.scan(textItem.getText());
+        if (textItem.isBold()) {
+            bits |= BOLD;
+        }
+        return bits;
+    }
+
+    /**
+     * A predicate that tests one or more feature bits
+     * @param mask The bits to test; the predicate holds if any of them is set
+     * @return The predicate
+     */
+    public static FeaturePredicate predicate(long mask) {
+        return new BitPredicate(mask);
+    }
+
+    /**
+     * Predicate backed by the cached bitmask. Scorers recognise it and fold its weight
+     * into a per-bit weight table instead of calling it.
+     */
+    static final class BitPredicate implements FeaturePredicate {
+        final long mask;
+
+        private BitPredicate(long mask) {
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean test(TextItem textItem) {
+            return (of(textItem) & mask) != 0;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+/**
+ * A feature test on a single text item.
+ * Returns a primitive boolean so scoring does not box a result per item and feature.
+ */
+@FunctionalInterface
+public interface FeaturePredicate {
+
+    boolean test(TextItem textItem);
+}
@@ -0,0 +1,173 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the declarative feature rules (weights, predicates, patterns and dictionaries)
+ * and compiles them once into immutable {@link FeatureScorer}s.
+ *
+ * Identical predicates are compiled once and shared between scorers, so extracting a
+ * field only evaluates pre-built functions and never compiles a regex.
+ */
+@Component
+public class FeatureRules {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, FeatureScorer> scorers;
+
+    public FeatureRules(@Value("${parser.feature-rules:classpath:parser/feature-rules.json}") Resource rules) {
+        try (InputStream in = rules.getInputStream()) {
+            this.scorers = compile(new ObjectMapper().readTree(in));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load feature rules from " + rules.getDescription(), e);
+        }
+    }
+
+    /**
+     * Get a compiled scorer by name
+     * @param name The scorer name, e.g. "profile.name"
+     * @return The compiled scorer
+     */
+    public FeatureScorer scorer(String name) {
+        FeatureScorer scorer = scorers.get(name);
+        if (scorer == null) {
+            throw new IllegalArgumentException("No feature scorer named " + name);
+        }
+        return scorer;
+    }
+
+    private static Map<String, FeatureScorer> compile(JsonNode root) {
+        Map<String, Pattern> patterns = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.path("patterns").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            patterns.put(entry.getKey(), Pattern.compile(entry.getValue().asText()));
+        }
+
+        Map<String, DictionaryMatcher> dictionaries = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.path("dictionaries").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            List<String> words = new ArrayList<>();
+            entry.getValue().forEach(word -> words.add(word.asText()));
+            try {
+                dictionaries.put(entry.getKey(), DictionaryMatcher.of(words));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid dictionary '" + entry.getKey() + "'", e);
+            }
+        }
+
+        Map<String, FeaturePredicate> interned = new HashMap<>();
+        Map<String, FeatureScorer> scorers = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.path("scorers").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode scorerSpec = entry.getValue();
+
+            List<FeatureScoringSystem.FeatureSet> featureSets = new ArrayList<>();
+            for (JsonNode featureSpec : scorerSpec.path("features")) {
+                // Key the predicate by its arguments only, so the same test is shared across scorers
+                ObjectNode predicateKey = ((ObjectNode) featureSpec).deepCopy();
+                predicateKey.remove("score");
+                predicateKey.remove("exactMatch");
+
+                FeaturePredicate predicate = interned.get(predicateKey.toString());
+                if (predicate == null) {
+                    predicate = compilePredicate(entry.getKey(), featureSpec, patterns, dictionaries);
+                    interned.put(predicateKey.toString(), predicate);
+                }
+                featureSets.add(new FeatureScoringSystem.FeatureSet(
+                    predicate,
+                    featureSpec.path("score").asInt(),
+                    featureSpec.path("exactMatch").asBoolean(false)));
+            }
+
+            scorers.put(entry.getKey(), new FeatureScorer(
+                entry.getKey(),
+                featureSets,
+                scorerSpec.path("returnEmptyIfHighestScoreNotPositive").asBoolean(true)));
+        }
+        return Map.copyOf(scorers);
+    }
+
+    private static FeaturePredicate compilePredicate(
+            String scorerName,
+            JsonNode spec,
+            Map<String, Pattern> patterns,
+            Map<String, DictionaryMatcher> dictionaries) {
+        String predicate = spec.path("predicate").asText();
+        switch (predicate) {
+            case "isBold":
+                return FeatureScoringSystem.isBold();
+            case "hasLetter":
+                return FeatureScoringSystem.hasLetter();
+            case "hasNumber":
+                return FeatureScoringSystem.hasNumber();
+            case "hasComma":
+                return FeatureScoringSystem.hasComma();
+            case "isAllUppercase":
+                return FeatureScoringSystem.isAllUppercase();
+            case "hasYear":
+                return FeatureBits.predicate(FeatureBits.HAS_YEAR);
+            case "hasMonth":
+                return FeatureBits.predicate(FeatureBits.HAS_MONTH);
+            case "hasSeason":
+                return FeatureBits.predicate(FeatureBits.HAS_SEASON);
+            case "hasPresent":
+                return FeatureBits.predicate(FeatureBits.HAS_PRESENT);
+            case "matches":
+                return FeatureScoringSystem.matchesPattern(
+                    lookup(scorerName, "pattern", spec.path("pattern").asText(), patterns));
+            case "containsText":
+                return FeatureScoringSystem.containsText(spec.path("text").asText());
+            case "containsAny": {
+                DictionaryMatcher matcher = lookup(scorerName, "dictionary", spec.path("dictionary").asText(), dictionaries);
+                return textItem -> matcher.containsAny(textItem.getText());
+            }
+            case "hasWord": {
+                DictionaryMatcher matcher = lookup(scorerName, "dictionary", spec.path("dictionary").asText(), dictionaries);
+                return textItem -> matcher.containsAnyWord(textItem.getText());
+            }
+            case "minWords": {
+                int count = spec.path("count").asInt();
+                return textItem -> WHITESPACE.split(textItem.getText()).length >= count;
+            }
+            case "numberInRange": {
+                // Exclusive minimum, inclusive maximum
+                double min = spec.path("min").asDouble();
+                double max = spec.path("max").asDouble();
+                return textItem -> {
+                    try {
+                        float value = Float.parseFloat(textItem.getText().trim());
+                        return value <= max && value > min;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                };
+            }
+            default:
+                throw new IllegalStateException("Unknown feature predicate '" + predicate + "' in scorer " + scorerName);
+        }
+    }
+
+    private static <T> T lookup(String scorerName, String kind, String key, Map<String, T> values) {
+        T value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException("Unknown " + kind + " '" + key + "' in scorer " + scorerName);
+        }
+        return value;
+    }
+}
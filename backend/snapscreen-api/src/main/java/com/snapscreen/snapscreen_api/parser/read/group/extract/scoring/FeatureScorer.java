@@ -0,0 +1,89 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, pre-compiled set of weighted features for one extracted field.
+ * Instances are built once by {@link FeatureRules} and shared across requests.
+ *
+ * Features that test a single {@link FeatureBits} bit are folded into a per-bit weight
+ * table, so they cost a few bit operations per item; the rest are evaluated as predicates.
+ */
+public final class FeatureScorer {
+
+    private final String name;
+    private final List<FeatureScoringSystem.FeatureSet> featureSets;
+    private final boolean returnEmptyIfHighestScoreNotPositive;
+
+    // Weight of each feature bit, and the bits that have a non-zero weight
+    private final int[] bitWeights = new int[Long.SIZE];
+    private final long bitMask;
+
+    // Features that are not a single feature bit
+    private final FeaturePredicate[] otherPredicates;
+    private final int[] otherScores;
+
+    FeatureScorer(String name, List<FeatureScoringSystem.FeatureSet> featureSets, boolean returnEmptyIfHighestScoreNotPositive) {
+        this.name = name;
+        this.featureSets = List.copyOf(featureSets);
+        this.returnEmptyIfHighestScoreNotPositive = returnEmptyIfHighestScoreNotPositive;
+
+        List<FeatureScoringSystem.FeatureSet> others = new ArrayList<>();
+        for (FeatureScoringSystem.FeatureSet featureSet : this.featureSets) {
+            if (featureSet.getPredicate() instanceof FeatureBits.BitPredicate bitPredicate
+                    && Long.bitCount(bitPredicate.mask) == 1) {
+                bitWeights[Long.numberOfTrailingZeros(bitPredicate.mask)] += featureSet.getScore();
+            } else {
+                others.add(featureSet);
+            }
+        }
+        long mask = 0;
+        for (int bit = 0; bit < bitWeights.length; bit++) {
+            if (bitWeights[bit] != 0) {
+                mask |= 1L << bit;
+            }
+        }
+        this.bitMask = mask;
+        this.otherPredicates = new FeaturePredicate[others.size()];
+        this.otherScores = new int[others.size()];
+        for (int i = 0; i < others.size(); i++) {
+            otherPredicates[i] = others.get(i).getPredicate();
+            otherScores[i] = others.get(i).getScore();
+        }
+    }
+
+    /**
+     * Score a single text item
+     * @param textItem The text item
+     * @return The sum of the weights of the features the item has
+     */
+    public int score(TextItem textItem) {
+        int score = 0;
+        long bits = FeatureBits.of(textItem) & bitMask;
+        while (bits != 0) {
+            score += bitWeights[Long.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        for (int i = 0; i < otherPredicates.length; i++) {
+            if (otherPredicates[i].test(textItem)) {
+                score += otherScores[i];
+            }
+        }
+        return score;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<FeatureScoringSystem.FeatureSet> getFeatureSets() {
+        return featureSets;
+    }
+
+    public boolean isReturnEmptyIfHighestScoreNotPositive() {
+        return returnEmptyIfHighestScoreNotPositive;
+    }
+}
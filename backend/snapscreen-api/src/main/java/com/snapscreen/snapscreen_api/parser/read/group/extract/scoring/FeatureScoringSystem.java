@@ -3,12 +3,9 @@ package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
 import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Core utility for the feature scoring system.
@@ -18,26 +15,36 @@ import java.util.stream.Collectors;
 @Component
 public class FeatureScoringSystem {
 
+    // Base features are answered from the item's cached feature bits
+    private static final FeaturePredicate IS_BOLD = FeatureBits.predicate(FeatureBits.BOLD);
+    private static final FeaturePredicate HAS_LETTER = FeatureBits.predicate(FeatureBits.HAS_LETTER);
+    private static final FeaturePredicate HAS_NUMBER = FeatureBits.predicate(FeatureBits.HAS_NUMBER);
+    private static final FeaturePredicate HAS_COMMA = FeatureBits.predicate(FeatureBits.HAS_COMMA);
+    private static final FeaturePredicate IS_ALL_UPPERCASE = FeatureBits.predicate(FeatureBits.ALL_UPPERCASE);
+
+    // Per-thread score buffer, grown on demand so scoring does not allocate
+    private static final ThreadLocal<int[]> SCORES = ThreadLocal.withInitial(() -> new int[64]);
+
     /**
      * Represents a feature set used for scoring
      */
     public static class FeatureSet {
-        private final Function<TextItem, Boolean> featureFunction;
+        private final FeaturePredicate predicate;
         private final int score;
         private final boolean isExactMatch;
         
-        public FeatureSet(Function<TextItem, Boolean> featureFunction, int score) {
-            this(featureFunction, score, false);
+        public FeatureSet(FeaturePredicate predicate, int score) {
+            this(predicate, score, false);
         }
         
-        public FeatureSet(Function<TextItem, Boolean> featureFunction, int score, boolean isExactMatch) {
-            this.featureFunction = featureFunction;
+        public FeatureSet(FeaturePredicate predicate, int score, boolean isExactMatch) {
+            this.predicate = predicate;
             this.score = score;
             this.isExactMatch = isExactMatch;
         }
         
-        public Function<TextItem, Boolean> getFeatureFunction() {
-            return featureFunction;
+        public FeaturePredicate getPredicate() {
+            return predicate;
         }
         
         public int getScore() {
@@ -50,58 +57,61 @@ public class FeatureScoringSystem {
     }
     
     /**
-     * Represents a scored text item
+     * Compute feature scores for a list of text items into the calling thread's buffer
+     * @return The buffer, whose first textItems.size() entries hold the scores
      */
-    public static class TextScore {
-        private final String text;
-        private final int score;
-        private final boolean isMatch;
+    private static int[] computeFeatureScores(List<TextItem> textItems, List<FeatureSet> featureSets) {
+        int size = textItems.size();
+        int[] scores = scoreBuffer(size);
         
-        public TextScore(String text, int score, boolean isMatch) {
-            this.text = text;
-            this.score = score;
-            this.isMatch = isMatch;
-        }
-        
-        public String getText() {
-            return text;
+        int featureCount = featureSets.size();
+        for (int i = 0; i < size; i++) {
+            TextItem textItem = textItems.get(i);
+            int score = 0;
+            for (int f = 0; f < featureCount; f++) {
+                FeatureSet featureSet = featureSets.get(f);
+                if (featureSet.predicate.test(textItem)) {
+                    score += featureSet.score;
+                }
+            }
+            scores[i] = score;
         }
         
-        public int getScore() {
-            return score;
+        return scores;
+    }
+    
+    /**
+     * Compute scores with a compiled scorer, whose base features are summed from the feature bits
+     */
+    private static int[] computeFeatureScores(List<TextItem> textItems, FeatureScorer scorer) {
+        int size = textItems.size();
+        int[] scores = scoreBuffer(size);
+        for (int i = 0; i < size; i++) {
+            scores[i] = scorer.score(textItems.get(i));
         }
-        
-        public boolean isMatch() {
-            return isMatch;
+        return scores;
+    }
+    
+    private static int[] scoreBuffer(int size) {
+        int[] scores = SCORES.get();
+        if (scores.length < size) {
+            scores = new int[Math.max(size, scores.length * 2)];
+            SCORES.set(scores);
         }
+        return scores;
     }
     
     /**
-     * Compute feature scores for a list of text items
+     * Index of the first highest score
      */
-    private List<TextScore> computeFeatureScores(List<TextItem> textItems, List<FeatureSet> featureSets) {
-        List<TextScore> textScores = textItems.stream()
-            .map(item -> new TextScore(item.getText(), 0, false))
-            .collect(Collectors.toList());
-        
-        for (int i = 0; i < textItems.size(); i++) {
-            TextItem textItem = textItems.get(i);
-            
-            for (FeatureSet featureSet : featureSets) {
-                boolean hasFeature = featureSet.getFeatureFunction().apply(textItem);
-                
-                if (hasFeature) {
-                    TextScore textScore = textScores.get(i);
-                    textScores.set(i, new TextScore(
-                        textScore.getText(),
-                        textScore.getScore() + featureSet.getScore(),
-                        featureSet.isExactMatch() || textScore.isMatch()
-                    ));
-                }
+    private static int argMax(int[] scores, int size) {
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
             }
         }
-        
-        return textScores;
+        return best;
     }
     
     /**
@@ -111,6 +121,26 @@ public class FeatureScoringSystem {
         return getTextWithHighestFeatureScore(textItems, featureSets, true);
     }
     
+    /**
+     * Get the text item with the highest feature score
+     * @param textItems The list of text items to score
+     * @param scorer A compiled scorer from {@link FeatureRules}
+     * @return The text item with the highest score
+     */
+    public String getTextWithHighestFeatureScore(List<TextItem> textItems, FeatureScorer scorer) {
+        if (textItems.isEmpty()) {
+            return "";
+        }
+        
+        int[] scores = computeFeatureScores(textItems, scorer);
+        int best = argMax(scores, textItems.size());
+        
+        if (scorer.isReturnEmptyIfHighestScoreNotPositive() && scores[best] <= 0) {
+            return "";
+        }
+        return textItems.get(best).getText();
+    }
+    
     /**
      * Get the text item with the highest feature score
      * @param textItems The list of text items to score
@@ -123,27 +153,101 @@ public class FeatureScoringSystem {
             List<FeatureSet> featureSets,
             boolean returnEmptyIfHighestScoreNotPositive) {
         
+        int index = getIndexWithHighestFeatureScore(textItems, featureSets, returnEmptyIfHighestScoreNotPositive);
+        return index < 0 ? "" : textItems.get(index).getText();
+    }
+    
+    /**
+     * Get the index of the text item with the highest feature score.
+     * When several items share the highest score, the first one wins.
+     * @param textItems The list of text items to score
+     * @param featureSets The feature sets to use for scoring
+     * @param returnNoneIfHighestScoreNotPositive Whether to return -1 if highest score is not positive
+     * @return The index of the highest scoring item, or -1 if there is none
+     */
+    public int getIndexWithHighestFeatureScore(
+            List<TextItem> textItems,
+            List<FeatureSet> featureSets,
+            boolean returnNoneIfHighestScoreNotPositive) {
+        
         if (textItems.isEmpty()) {
-            return "";
+            return -1;
         }
         
-        List<TextScore> textScores = computeFeatureScores(textItems, featureSets);
+        int[] scores = computeFeatureScores(textItems, featureSets);
+        int best = argMax(scores, textItems.size());
         
-        TextScore highestScore = textScores.stream()
-            .max(Comparator.comparing(TextScore::getScore))
-            .orElse(new TextScore("", 0, false));
+        if (returnNoneIfHighestScoreNotPositive && scores[best] <= 0) {
+            return -1;
+        }
+        return best;
+    }
+    
+    /**
+     * Get the indices of all text items that share the highest feature score
+     * @param textItems The list of text items to score
+     * @param featureSets The feature sets to use for scoring
+     * @param out Receives the tied indices in document order; at most out.length are written
+     * @return The number of tied items, which may exceed out.length
+     */
+    public int getIndicesWithHighestFeatureScore(List<TextItem> textItems, List<FeatureSet> featureSets, int[] out) {
+        if (textItems.isEmpty()) {
+            return 0;
+        }
         
-        if (returnEmptyIfHighestScoreNotPositive && highestScore.getScore() <= 0) {
-            return "";
+        int size = textItems.size();
+        int[] scores = computeFeatureScores(textItems, featureSets);
+        int highest = scores[argMax(scores, size)];
+        
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (scores[i] == highest) {
+                if (count < out.length) {
+                    out[count] = i;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Get the indices of the k highest scoring text items, where k is out.length
+     * @param textItems The list of text items to score
+     * @param featureSets The feature sets to use for scoring
+     * @param out Receives the indices by descending score; equal scores keep document order
+     * @return The number of indices written, min(k, textItems.size())
+     */
+    public int getTopIndicesByFeatureScore(List<TextItem> textItems, List<FeatureSet> featureSets, int[] out) {
+        int size = textItems.size();
+        int k = Math.min(out.length, size);
+        if (k == 0) {
+            return 0;
         }
         
-        return highestScore.getText();
+        int[] scores = computeFeatureScores(textItems, featureSets);
+        
+        // Insertion into a bounded sorted window; k is small in practice
+        int filled = 0;
+        for (int i = 0; i < size; i++) {
+            int score = scores[i];
+            if (filled == k && score <= scores[out[k - 1]]) {
+                continue;
+            }
+            int pos = filled < k ? filled++ : k - 1;
+            while (pos > 0 && scores[out[pos - 1]] < score) {
+                out[pos] = out[pos - 1];
+                pos--;
+            }
+            out[pos] = i;
+        }
+        return k;
     }
     
     /**
      * Common feature function: checks if text item contains a regex pattern
      */
-    public static Function<TextItem, Boolean> matchesPattern(Pattern pattern) {
+    public static FeaturePredicate matchesPattern(Pattern pattern) {
         return textItem -> {
             Matcher matcher = pattern.matcher(textItem.getText());
             return matcher.find();
@@ -153,45 +257,42 @@ public class FeatureScoringSystem {
     /**
      * Common feature function: checks if text item contains exact text
      */
-    public static Function<TextItem, Boolean> containsText(String text) {
+    public static FeaturePredicate containsText(String text) {
         return textItem -> textItem.getText().contains(text);
     }
     
     /**
      * Common feature function: checks if text item is bold
      */
-    public static Function<TextItem, Boolean> isBold() {
-        return TextItem::isBold;
+    public static FeaturePredicate isBold() {
+        return IS_BOLD;
     }
     
     /**
      * Common feature function: checks if text item has letter characters
      */
-    public static Function<TextItem, Boolean> hasLetter() {
-        return textItem -> textItem.getText().matches(".*[a-zA-Z].*");
+    public static FeaturePredicate hasLetter() {
+        return HAS_LETTER;
     }
     
     /**
      * Common feature function: checks if text item has numbers
      */
-    public static Function<TextItem, Boolean> hasNumber() {
-        return textItem -> textItem.getText().matches(".*[0-9].*");
+    public static FeaturePredicate hasNumber() {
+        return HAS_NUMBER;
     }
     
     /**
      * Common feature function: checks if text item has commas
      */
-    public static Function<TextItem, Boolean> hasComma() {
-        return textItem -> textItem.getText().contains(",");
+    public static FeaturePredicate hasComma() {
+        return HAS_COMMA;
     }
     
     /**
      * Common feature function: checks if text is all uppercase
      */
-    public static Function<TextItem, Boolean> isAllUppercase() {
-        return textItem -> {
-            String text = textItem.getText();
-            return !text.equals(text.toLowerCase()) && text.equals(text.toUpperCase());
-        };
+    public static FeaturePredicate isAllUppercase() {
+        return IS_ALL_UPPERCASE;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores several fields over the same text items in a single pass.
+ *
+ * Every distinct predicate of the given scorers is evaluated once per item and its weight
+ * is added to each field that uses it. The result for each field is the same as a separate
+ * {@link FeatureScoringSystem#getTextWithHighestFeatureScore(List, FeatureScorer)} call.
+ */
+public final class MultiFieldScorer {
+
+    private final FeatureScorer[] fields;
+
+    // Distinct predicates, and for each one the fields it contributes to and by how much
+    private final FeaturePredicate[] predicates;
+    private final int[][] targetFields;
+    private final int[][] targetScores;
+
+    public MultiFieldScorer(List<FeatureScorer> scorers) {
+        this.fields = scorers.toArray(new FeatureScorer[0]);
+
+        // Predicates are shared between scorers by FeatureRules, so identity is enough to dedupe them
+        Map<FeaturePredicate, List<int[]>> contributions = new IdentityHashMap<>();
+        List<FeaturePredicate> distinct = new ArrayList<>();
+        for (int field = 0; field < fields.length; field++) {
+            for (FeatureScoringSystem.FeatureSet featureSet : fields[field].getFeatureSets()) {
+                List<int[]> targets = contributions.get(featureSet.getPredicate());
+                if (targets == null) {
+                    targets = new ArrayList<>();
+                    contributions.put(featureSet.getPredicate(), targets);
+                    distinct.add(featureSet.getPredicate());
+                }
+                targets.add(new int[] { field, featureSet.getScore() });
+            }
+        }
+
+        this.predicates = distinct.toArray(new FeaturePredicate[0]);
+        this.targetFields = new int[predicates.length][];
+        this.targetScores = new int[predicates.length][];
+        for (int p = 0; p < predicates.length; p++) {
+            List<int[]> targets = contributions.get(predicates[p]);
+            targetFields[p] = new int[targets.size()];
+            targetScores[p] = new int[targets.size()];
+            for (int t = 0; t < targets.size(); t++) {
+                targetFields[p][t] = targets.get(t)[0];
+                targetScores[p][t] = targets.get(t)[1];
+            }
+        }
+    }
+
+    /**
+     * Number of distinct predicates evaluated per item
+     */
+    public int getPredicateCount() {
+        return predicates.length;
+    }
+
+    /**
+     * Get the highest scoring text for every field
+     * @param textItems The list of text items to score
+     * @return One text per field, in the order the scorers were given
+     */
+    public String[] getTextsWithHighestFeatureScores(List<TextItem> textItems) {
+        String[] winners = new String[fields.length];
+        if (textItems.isEmpty()) {
+            Arrays.fill(winners, "");
+            return winners;
+        }
+
+        int[][] scores = new int[fields.length][textItems.size()];
+        for (int i = 0; i < textItems.size(); i++) {
+            TextItem textItem = textItems.get(i);
+            for (int p = 0; p < predicates.length; p++) {
+                if (predicates[p].test(textItem)) {
+                    int[] fieldIdx = targetFields[p];
+                    int[] fieldScores = targetScores[p];
+                    for (int t = 0; t < fieldIdx.length; t++) {
+                        scores[fieldIdx[t]][i] += fieldScores[t];
+                    }
+                }
+            }
+        }
+
+        for (int field = 0; field < fields.length; field++) {
+            // The first item with the highest score wins, as in FeatureScoringSystem
+            int[] fieldScores = scores[field];
+            int best = 0;
+            for (int i = 1; i < fieldScores.length; i++) {
+                if (fieldScores[i] > fieldScores[best]) {
+                    best = i;
+                }
+            }
+            if (fields[field].isReturnEmptyIfHighestScoreNotPositive() && fieldScores[best] <= 0) {
+                winners[field] = "";
+            } else {
+                winners[field] = textItems.get(best).getText();
+            }
+        }
+        return winners;
+    }
+}
@@ -0,0 +1,138 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass scanner that computes the text-based {@link FeatureBits} of an item.
+ * Replaces the regex and stream based checks with a walk over the characters
+ * using precomputed ASCII character classes.
+ */
+final class TextLexer {
+
+    // ASCII character classes
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 1 << 1;
+    private static final byte UPPER = 1 << 2;
+    private static final byte LOWER = 1 << 3;
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LETTER | LOWER;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] = LETTER | UPPER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+    }
+
+    // Three-letter month abbreviations packed into an int, sorted for binary search
+    private static final int[] MONTH_KEYS = monthKeys(
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
+
+    private static final String[] SEASONS = { "Spring", "Summer", "Fall", "Winter" };
+    private static final String PRESENT = "Present";
+
+    private TextLexer() {
+    }
+
+    /**
+     * Scan a text once and collect its text-based feature bits
+     * @param text The text of an item
+     * @return The feature bits, excluding layout bits such as {@link FeatureBits#BOLD}
+     */
+    static long scan(String text) {
+        int length = text.length();
+        long bits = 0;
+        boolean hasUpper = false;
+        boolean hasLower = false;
+        boolean nonAscii = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 128) {
+                nonAscii = true;
+                continue;
+            }
+
+            int charClass = CLASSES[c];
+            if ((charClass & DIGIT) != 0) {
+                bits |= FeatureBits.HAS_NUMBER;
+                if ((bits & FeatureBits.HAS_YEAR) == 0 && isYearAt(text, i, length)) {
+                    bits |= FeatureBits.HAS_YEAR;
+                }
+            } else if ((charClass & UPPER) != 0) {
+                bits |= FeatureBits.HAS_LETTER;
+                hasUpper = true;
+                bits |= wordsStartingAt(text, i, length, c);
+            } else if ((charClass & LOWER) != 0) {
+                bits |= FeatureBits.HAS_LETTER;
+                hasLower = true;
+            } else if (c == ',') {
+                bits |= FeatureBits.HAS_COMMA;
+            }
+        }
+
+        // Case mapping outside ASCII has special cases, leave those to String
+        boolean allUppercase = nonAscii
+            ? !text.equals(text.toLowerCase()) && text.equals(text.toUpperCase())
+            : hasUpper && !hasLower;
+        if (allUppercase) {
+            bits |= FeatureBits.ALL_UPPERCASE;
+        }
+        return bits;
+    }
+
+    /**
+     * A year from 1900 to 2099 starts at the given digit
+     */
+    private static boolean isYearAt(String text, int i, int length) {
+        if (i + 3 >= length) {
+            return false;
+        }
+        char first = text.charAt(i);
+        char second = text.charAt(i + 1);
+        boolean century = (first == '1' && second == '9') || (first == '2' && second == '0');
+        return century && isDigit(text.charAt(i + 2)) && isDigit(text.charAt(i + 3));
+    }
+
+    /**
+     * Month, season and "Present" tokens that start with the given capital letter
+     */
+    private static long wordsStartingAt(String text, int i, int length, char c) {
+        long bits = 0;
+        if (i + 2 < length && Arrays.binarySearch(MONTH_KEYS, key(c, text.charAt(i + 1), text.charAt(i + 2))) >= 0) {
+            bits |= FeatureBits.HAS_MONTH;
+        }
+        if (c == 'S' || c == 'F' || c == 'W') {
+            for (String season : SEASONS) {
+                if (text.startsWith(season, i)) {
+                    bits |= FeatureBits.HAS_SEASON;
+                    break;
+                }
+            }
+        } else if (c == 'P' && text.startsWith(PRESENT, i)) {
+            bits |= FeatureBits.HAS_PRESENT;
+        }
+        return bits;
+    }
+
+    private static boolean isDigit(char c) {
+        return c < 128 && (CLASSES[c] & DIGIT) != 0;
+    }
+
+    private static int key(char first, char second, char third) {
+        return first << 16 | second << 8 | third;
+    }
+
+    private static int[] monthKeys(String... months) {
+        int[] keys = new int[months.length];
+        for (int i = 0; i < months.length; i++) {
+            keys[i] = key(months[i].charAt(0), months[i].charAt(1), months[i].charAt(2));
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+}
@@ -0,0 +1,230 @@
+package com.snapscreen.snapscreen_api.service;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Parses many resumes in one request on the work-stealing bulk pool.
+ * Documents are read one at a time, at most a fixed window of them is in flight,
+ * and results are handed back in the order they finish.
+ */
+@Service
+public class BulkParseService {
+
+    /**
+     * A document to parse, its content is read by the worker that parses it
+     */
+    public interface Document {
+        String name();
+
+        byte[] read() throws IOException;
+    }
+
+    /**
+     * Supplies the documents of a bulk request
+     */
+    public interface DocumentSource {
+        /**
+         * @return The next document, or null when there are no more
+         */
+        Document next() throws IOException;
+    }
+
+    /**
+     * Receives results on the thread that called {@link #parseAll}, one at a time
+     */
+    public interface ResultSink {
+        void accept(Result result) throws IOException;
+    }
+
+    /**
+     * The outcome of parsing one document
+     * @param name The document name (ZIP entry name or S3 object key)
+     * @param resume The parsed resume, null if parsing failed
+     * @param error Why parsing failed, null if it succeeded
+     * @param runMillis How long reading and parsing the document took
+     */
+    public record Result(String name, ParsedResume resume, String error, long runMillis) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    private final ResumeParser resumeParser;
+    private final S3StorageService s3StorageService;
+    private final ExecutorService bulkExecutor;
+    private final int window;
+    private final int maxDocumentBytes;
+
+    public BulkParseService(
+            ResumeParser resumeParser,
+            S3StorageService s3StorageService,
+            @Qualifier("parserBulkExecutor") ExecutorService bulkExecutor,
+            @Value("${parser.bulk-window:0}") int window,
+            @Value("${parser.bulk-max-document-bytes:10485760}") int maxDocumentBytes) {
+        this.resumeParser = resumeParser;
+        this.s3StorageService = s3StorageService;
+        this.bulkExecutor = bulkExecutor;
+        // Two documents per core keep every worker busy while finished results are written
+        this.window = window > 0 ? window : 2 * Runtime.getRuntime().availableProcessors();
+        this.maxDocumentBytes = maxDocumentBytes;
+    }
+
+    /**
+     * Parse every document from a source
+     * @param source The documents to parse
+     * @param fields The parts of the resumes to extract
+     * @param sink Receives one result per document, as each finishes
+     * @throws IOException if reading the source or writing to the sink fails; documents
+     *         that have not started by then are skipped
+     */
+    public void parseAll(DocumentSource source, Set<ResumeField> fields, ResultSink sink) throws IOException {
+        BlockingQueue<Result> finished = new LinkedBlockingQueue<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int inFlight = 0;
+        try {
+            while (true) {
+                // Hand over whatever has finished, and wait for a free slot before reading more
+                for (Result result; (result = finished.poll()) != null; inFlight--) {
+                    sink.accept(result);
+                }
+                if (inFlight >= window) {
+                    sink.accept(take(finished));
+                    inFlight--;
+                    continue;
+                }
+
+                Document document = source.next();
+                if (document == null) {
+                    break;
+                }
+                bulkExecutor.execute(() -> {
+                    if (cancelled.get()) {
+                        return;
+                    }
+                    Result result = null;
+                    try {
+                        result = parse(document, fields);
+                    } finally {
+                        // Even an Error must produce a result, or the caller would wait for it forever
+                        finished.add(result != null ? result : new Result(document.name(), null, "Failed to parse", 0));
+                    }
+                });
+                inFlight++;
+            }
+            for (; inFlight > 0; inFlight--) {
+                sink.accept(take(finished));
+            }
+        } finally {
+            // Stop queued documents from being parsed for nobody if we bailed out early
+            cancelled.set(true);
+        }
+    }
+
+    /**
+     * Documents for S3 objects, each downloaded by the worker that parses it. Objects over
+     * the size limit fail without their content being read.
+     * @param objectKeys The S3 object keys
+     */
+    public DocumentSource fromS3(List<String> objectKeys) {
+        Iterator<String> keys = objectKeys.iterator();
+        return () -> {
+            if (!keys.hasNext()) {
+                return null;
+            }
+            String key = keys.next();
+            return new Document() {
+                @Override
+                public String name() {
+                    return key;
+                }
+
+                @Override
+                public byte[] read() throws IOException {
+                    return s3StorageService.downloadFile(key, maxDocumentBytes);
+                }
+            };
+        };
+    }
+
+    /**
+     * Documents for the files in a ZIP archive. Entries are inflated one at a time as the
+     * window frees up; directories are skipped.
+     * @param zip The ZIP archive, read sequentially and not closed
+     */
+    public DocumentSource fromZip(InputStream zip) {
+        ZipInputStream entries = new ZipInputStream(zip);
+        return () -> {
+            ZipEntry entry;
+            do {
+                entry = entries.getNextEntry();
+            } while (entry != null && entry.isDirectory());
+            if (entry == null) {
+                return null;
+            }
+
+            // Read one byte over the limit to tell a full-size entry from a larger one
+            String name = entry.getName();
+            byte[] content = entries.readNBytes(maxDocumentBytes + 1);
+            return new Document() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public byte[] read() throws IOException {
+                    if (content.length > maxDocumentBytes) {
+                        throw new IOException("File is larger than " + maxDocumentBytes + " bytes");
+                    }
+                    return content;
+                }
+            };
+        };
+    }
+
+    private Result parse(Document document, Set<ResumeField> fields) {
+        long start = System.nanoTime();
+        String name = document.name();
+        try {
+            if (!name.toLowerCase().endsWith(".pdf")) {
+                return new Result(name, null, "Invalid file type. Supported types: PDF", 0);
+            }
+            ParsedResume resume = resumeParser.parseResumeFromPdf(document.read(), fields);
+            return new Result(name, resume, null, elapsedMillis(start));
+        } catch (IOException | RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new Result(name, null, error, elapsedMillis(start));
+        }
+    }
+
+    private static Result take(BlockingQueue<Result> finished) throws InterruptedIOException {
+        try {
+            return finished.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for bulk parse results");
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
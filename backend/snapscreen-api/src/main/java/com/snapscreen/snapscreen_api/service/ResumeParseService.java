@@ -0,0 +1,152 @@
+package com.snapscreen.snapscreen_api.service;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs resume parses as asynchronous jobs on the bounded parser job executor
+ * and keeps finished jobs around for a while so their results can be fetched.
+ * Expired jobs are dropped on every submit and lookup, and periodically in case
+ * neither happens. A job cancelled before a worker picks it up is taken off the queue.
+ *
+ * The time jobs wait for a worker and the time they run are recorded in the
+ * resume.parser.job.queue.wait and resume.parser.job.run timers.
+ */
+@Service
+public class ResumeParseService {
+
+    private final ResumeParser resumeParser;
+    private final ThreadPoolExecutor jobExecutor;
+    private final long retentionNanos;
+    private final Timer queueWaitTimer;
+    private final Timer runTimer;
+
+    private final Map<String, ParseJob> jobs = new ConcurrentHashMap<>();
+    // The tasks of queued jobs; whoever removes a job's task first, its worker or cancel, wins
+    private final Map<String, Runnable> queuedTasks = new ConcurrentHashMap<>();
+
+    public ResumeParseService(
+            ResumeParser resumeParser,
+            @Qualifier("parserJobExecutor") ThreadPoolExecutor jobExecutor,
+            @Value("${parser.job-retention-minutes:15}") long retentionMinutes,
+            MeterRegistry registry) {
+        this.resumeParser = resumeParser;
+        this.jobExecutor = jobExecutor;
+        this.retentionNanos = TimeUnit.MINUTES.toNanos(retentionMinutes);
+        this.queueWaitTimer = Timer.builder("resume.parser.job.queue.wait")
+            .description("Time parse jobs wait for a worker")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.runTimer = Timer.builder("resume.parser.job.run")
+            .description("Time parse jobs take once a worker has picked them up")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * Queue a PDF for parsing
+     * @param ownerId The user submitting the job
+     * @param pdfBytes The PDF content
+     * @param fields The parts of the resume to extract
+     * @return The queued job
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public ParseJob submit(String ownerId, byte[] pdfBytes, Set<ResumeField> fields) {
+        evictExpiredJobs();
+
+        ParseJob job = new ParseJob(UUID.randomUUID().toString(), ownerId);
+        Runnable task = () -> run(job, pdfBytes, fields);
+        jobs.put(job.getId(), job);
+        queuedTasks.put(job.getId(), task);
+        try {
+            jobExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queuedTasks.remove(job.getId());
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Drop a job, e.g. when the upload it was submitted with failed. A queued job
+     * gives up its queue slot and is never run; a running one finishes unseen.
+     * @param ownerId The user who submitted the job
+     * @param jobId The job ID
+     * @return Whether the job was dropped before a worker picked it up
+     */
+    public boolean cancel(String ownerId, String jobId) {
+        ParseJob job = jobs.get(jobId);
+        if (job == null || !job.getOwnerId().equals(ownerId)) {
+            return false;
+        }
+        jobs.remove(jobId);
+        Runnable task = queuedTasks.remove(jobId);
+        if (task == null) {
+            return false;
+        }
+        jobExecutor.remove(task);
+        return true;
+    }
+
+    /**
+     * Get a job submitted by a user
+     * @param ownerId The user asking
+     * @param jobId The job ID
+     * @return The job, empty if it does not exist, has expired or belongs to someone else
+     */
+    public Optional<ParseJob> getJob(String ownerId, String jobId) {
+        evictExpiredJobs();
+
+        ParseJob job = jobs.get(jobId);
+        if (job == null || !job.getOwnerId().equals(ownerId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    private void run(ParseJob job, byte[] pdfBytes, Set<ResumeField> fields) {
+        if (queuedTasks.remove(job.getId()) == null) {
+            // Cancelled while queued
+            return;
+        }
+        job.start();
+        queueWaitTimer.record(job.getStartedNanos() - job.getSubmittedNanos(), TimeUnit.NANOSECONDS);
+        try {
+            job.succeed(resumeParser.parseResumeFromPdf(pdfBytes, fields));
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+        } catch (Error e) {
+            // Finish the job so it can expire, then let the worker see the error
+            job.fail("Failed to parse resume");
+            throw e;
+        } finally {
+            runTimer.record(job.getFinishedNanos() - job.getStartedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Drop finished jobs whose results have been kept for longer than the retention period
+     */
+    @Scheduled(fixedDelayString = "${parser.job-eviction-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.isDone() && now - job.getFinishedNanos() > retentionNanos);
+    }
+}
@@ -3,6 +3,7 @@ package com.snapscreen.snapscreen_api.service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
@@ -45,11 +47,29 @@ public class S3StorageService {
      * @throws IOException if there's an error reading the file
      */
     public String uploadResume(String userId, MultipartFile file) throws IOException {
+        return uploadResume(userId, file.getOriginalFilename(),
+                RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+    }
+    
+    /**
+     * Upload a resume that has already been read into memory, replacing any existing resume for the user
+     * @param userId The user ID (from Firebase)
+     * @param originalFileName The name of the uploaded file
+     * @param content The file content, which may be shared with other readers and is not modified
+     * @return The S3 object key of the uploaded file
+     */
+    public String uploadResume(String userId, String originalFileName, byte[] content) {
+        // Stream from the array, RequestBody.fromBytes would copy it
+        return uploadResume(userId, originalFileName,
+                RequestBody.fromInputStream(new ByteArrayInputStream(content), content.length));
+    }
+    
+    private String uploadResume(String userId, String originalFileName, RequestBody requestBody) {
         // First, delete any existing resume for this user
         deleteExistingResume(userId);
         
         // Generate a unique file name based on original file name to avoid collisions
-        String fileExtension = getFileExtension(file.getOriginalFilename());
+        String fileExtension = getFileExtension(originalFileName);
         String objectKey = RESUME_FOLDER + userId + "/resume" + fileExtension;
         
         // Set content type based on file extension
@@ -62,12 +82,11 @@ public class S3StorageService {
                 .contentType(contentType)
                 .metadata(Map.of(
                     "userId", userId,
-                    "originalFileName", file.getOriginalFilename()
+                    "originalFileName", originalFileName
                 ))
                 .build();
         
-        s3Client.putObject(putObjectRequest, 
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        s3Client.putObject(putObjectRequest, requestBody);
         
         return objectKey;
     }
@@ -142,6 +161,35 @@ public class S3StorageService {
         return presignedRequest.url().toString();
     }
     
+    /**
+     * Download a file from S3, refusing one over a size limit before reading its content
+     * @param objectKey The S3 object key of the file
+     * @param maxBytes The largest file to download
+     * @return The file content
+     * @throws IOException if the file is larger than maxBytes or reading it fails
+     */
+    public byte[] downloadFile(String objectKey, int maxBytes) throws IOException {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(getObjectRequest)) {
+            Long contentLength = object.response().contentLength();
+            if (contentLength != null && contentLength > maxBytes) {
+                object.abort();
+                throw new IOException("File is larger than " + maxBytes + " bytes");
+            }
+            // Read one byte over the limit in case the length was missing or wrong
+            byte[] content = object.readNBytes(maxBytes + 1);
+            if (content.length > maxBytes) {
+                object.abort();
+                throw new IOException("File is larger than " + maxBytes + " bytes");
+            }
+            return content;
+        }
+    }
+    
     /**
      * Delete a resume file from S3
      * @param objectKey The S3 object key of the file to delete
@@ -0,0 +1,27 @@
+package com.snapscreen.snapscreen_api.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultipartConfigTest {
+
+    @Test
+    public void testBulkArchivesFitTheMultipartLimits() {
+        new WebApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(MultipartAutoConfiguration.class))
+            .run(context -> {
+                MultipartConfigElement multipartConfig = context.getBean(MultipartConfigElement.class);
+                assertEquals(DataSize.ofMegabytes(512).toBytes(), multipartConfig.getMaxFileSize());
+                assertEquals(DataSize.ofMegabytes(512).toBytes(), multipartConfig.getMaxRequestSize());
+                assertEquals(10485760L, context.getEnvironment().getProperty("resume.max-upload-bytes", Long.class));
+            });
+    }
+}
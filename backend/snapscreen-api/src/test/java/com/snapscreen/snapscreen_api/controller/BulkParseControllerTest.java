@@ -0,0 +1,77 @@
+package com.snapscreen.snapscreen_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.BulkParseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BulkParseControllerTest {
+
+    private MockMvc mockMvc;
+    private BulkParseService bulkParseService;
+
+    @BeforeEach
+    public void setup() {
+        bulkParseService = mock(BulkParseService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new BulkParseController(bulkParseService, new ObjectMapper())).build();
+    }
+
+    @Test
+    public void testParseObjects_StreamsOneLinePerDocument() throws Exception {
+        BulkParseService.DocumentSource source = () -> null;
+        when(bulkParseService.fromS3(List.of("a.pdf", "b.pdf"))).thenReturn(source);
+        doAnswer(invocation -> {
+            BulkParseService.ResultSink sink = invocation.getArgument(2);
+            sink.accept(new BulkParseService.Result("b.pdf", null, "Failed to read PDF", 3));
+            sink.accept(new BulkParseService.Result("a.pdf", null, "Failed to read PDF", 4));
+            return null;
+        }).when(bulkParseService).parseAll(eq(source), eq(ResumeField.all()), any());
+
+        MvcResult result = mockMvc.perform(post("/api/resumes/parse/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"objectKeys\": [\"a.pdf\", \"b.pdf\"]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                    "{\"name\":\"b.pdf\",\"status\":\"FAILED\",\"runMillis\":3,\"error\":\"Failed to read PDF\"}\n"
+                    + "{\"name\":\"a.pdf\",\"status\":\"FAILED\",\"runMillis\":4,\"error\":\"Failed to read PDF\"}\n"));
+    }
+
+    @Test
+    public void testParseZip_RejectsOtherFiles() throws Exception {
+        MockMultipartFile pdf = new MockMultipartFile("file", "resume.pdf", "application/pdf", "%PDF".getBytes());
+
+        MvcResult result = mockMvc.perform(multipart("/api/resumes/parse/bulk").file(pdf))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid file type. Supported types: ZIP"));
+
+        verifyNoInteractions(bulkParseService);
+    }
+}
@@ -0,0 +1,119 @@
+package com.snapscreen.snapscreen_api.controller;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.ResumeParseService;
+import com.snapscreen.snapscreen_api.service.S3StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.security.Principal;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ResumeControllerUploadTest {
+
+    private static final String OBJECT_KEY = "resumes/testUserId/resume.pdf";
+
+    private final Principal user = new UsernamePasswordAuthenticationToken("testUserId", null);
+    private final MockMultipartFile pdf =
+        new MockMultipartFile("file", "resume.pdf", "application/pdf", "%PDF-1.4".getBytes());
+
+    private MockMvc mockMvc;
+    private S3StorageService s3StorageService;
+    private ResumeParseService resumeParseService;
+
+    @BeforeEach
+    public void setup() {
+        s3StorageService = mock(S3StorageService.class);
+        resumeParseService = mock(ResumeParseService.class);
+        when(s3StorageService.getPreSignedUrl(anyString(), anyLong())).thenReturn("https://example.com/resume.pdf");
+        mockMvc = MockMvcBuilders.standaloneSetup(new ResumeController(s3StorageService, resumeParseService, 1024)).build();
+    }
+
+    @Test
+    public void testUploadPdf_ParsesTheUploadedBytes() throws Exception {
+        when(resumeParseService.submit(eq("testUserId"), any(), eq(ResumeField.all())))
+            .thenReturn(new ParseJob("job1", "testUserId"));
+        when(s3StorageService.uploadResume(eq("testUserId"), eq("resume.pdf"), any(byte[].class))).thenReturn(OBJECT_KEY);
+
+        mockMvc.perform(multipart("/api/resumes/upload").file(pdf).principal(user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.objectKey").value(OBJECT_KEY))
+                .andExpect(jsonPath("$.parseJobId").value("job1"));
+
+        // The parser and the upload share one copy of the file
+        ArgumentCaptor<byte[]> parsed = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> uploaded = ArgumentCaptor.forClass(byte[].class);
+        verify(resumeParseService).submit(eq("testUserId"), parsed.capture(), eq(ResumeField.all()));
+        verify(s3StorageService).uploadResume(eq("testUserId"), eq("resume.pdf"), uploaded.capture());
+        assertSame(parsed.getValue(), uploaded.getValue());
+        assertArrayEquals(pdf.getBytes(), uploaded.getValue());
+    }
+
+    @Test
+    public void testUploadPdf_ParseQueueFull() throws Exception {
+        when(resumeParseService.submit(anyString(), any(), any())).thenThrow(new RejectedExecutionException());
+        when(s3StorageService.uploadResume(eq("testUserId"), eq("resume.pdf"), any(byte[].class))).thenReturn(OBJECT_KEY);
+
+        mockMvc.perform(multipart("/api/resumes/upload").file(pdf).principal(user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.objectKey").value(OBJECT_KEY))
+                .andExpect(jsonPath("$.parseJobId").doesNotExist());
+    }
+
+    @Test
+    public void testUploadPdf_FailedUploadCancelsTheParse() {
+        when(resumeParseService.submit(eq("testUserId"), any(), eq(ResumeField.all())))
+            .thenReturn(new ParseJob("job1", "testUserId"));
+        when(s3StorageService.uploadResume(eq("testUserId"), eq("resume.pdf"), any(byte[].class)))
+            .thenThrow(S3Exception.builder().message("Service unavailable").statusCode(503).build());
+
+        assertThrows(Exception.class, () -> mockMvc.perform(multipart("/api/resumes/upload").file(pdf).principal(user)));
+
+        verify(resumeParseService).cancel("testUserId", "job1");
+    }
+
+    @Test
+    public void testUploadPdf_TooLarge() throws Exception {
+        MockMvc smallLimit = MockMvcBuilders.standaloneSetup(
+            new ResumeController(s3StorageService, resumeParseService, 4)).build();
+
+        smallLimit.perform(multipart("/api/resumes/upload").file(pdf).principal(user))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("File is larger than 4 bytes"));
+
+        verifyNoInteractions(resumeParseService);
+        verify(s3StorageService, never()).uploadResume(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    public void testUploadDocx_NotParsed() throws Exception {
+        MockMultipartFile docx = new MockMultipartFile("file", "resume.docx",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx".getBytes());
+        when(s3StorageService.uploadResume(eq("testUserId"), any(MockMultipartFile.class)))
+            .thenReturn("resumes/testUserId/resume.docx");
+
+        mockMvc.perform(multipart("/api/resumes/upload").file(docx).principal(user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parseJobId").doesNotExist());
+
+        verifyNoInteractions(resumeParseService);
+    }
+}
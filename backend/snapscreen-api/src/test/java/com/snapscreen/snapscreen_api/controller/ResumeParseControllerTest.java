@@ -0,0 +1,106 @@
+package com.snapscreen.snapscreen_api.controller;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.service.ResumeParseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.security.Principal;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ResumeParseControllerTest {
+
+    private final Principal user = new UsernamePasswordAuthenticationToken("testUserId", null);
+    private final MockMultipartFile pdf =
+        new MockMultipartFile("file", "resume.pdf", "application/pdf", "%PDF-1.4".getBytes());
+
+    private MockMvc mockMvc;
+    private ResumeParseService resumeParseService;
+
+    @BeforeEach
+    public void setup() {
+        resumeParseService = mock(ResumeParseService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ResumeParseController(resumeParseService, 7, 1024)).build();
+    }
+
+    @Test
+    public void testSubmitParse_Accepted() throws Exception {
+        ParseJob job = new ParseJob("job1", "testUserId");
+        when(resumeParseService.submit(eq("testUserId"), any(), eq(EnumSet.of(ResumeField.PROFILE)))).thenReturn(job);
+
+        mockMvc.perform(multipart("/api/resumes/parse").file(pdf).param("fields", "PROFILE").principal(user))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/resumes/parse/job1"))
+                .andExpect(jsonPath("$.jobId").value("job1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    public void testSubmitParse_QueueFull() throws Exception {
+        when(resumeParseService.submit(anyString(), any(), any())).thenThrow(new RejectedExecutionException());
+
+        mockMvc.perform(multipart("/api/resumes/parse").file(pdf).principal(user))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "7"));
+    }
+
+    @Test
+    public void testSubmitParse_TooLarge() throws Exception {
+        MockMvc smallLimit = MockMvcBuilders.standaloneSetup(new ResumeParseController(resumeParseService, 7, 4)).build();
+
+        smallLimit.perform(multipart("/api/resumes/parse").file(pdf).principal(user))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("File is larger than 4 bytes"));
+        verifyNoInteractions(resumeParseService);
+    }
+
+    @Test
+    public void testSubmitParse_NotPdf() throws Exception {
+        MockMultipartFile text = new MockMultipartFile("file", "resume.txt", "text/plain", "text".getBytes());
+
+        mockMvc.perform(multipart("/api/resumes/parse").file(text).principal(user))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(resumeParseService);
+    }
+
+    @Test
+    public void testGetParseJob_Succeeded() throws Exception {
+        ParseJob job = new ParseJob("job1", "testUserId");
+        ParsedResume parsedResume = new ParsedResume();
+        parsedResume.setName("Jane Doe");
+        job.start();
+        job.succeed(parsedResume);
+        when(resumeParseService.getJob("testUserId", "job1")).thenReturn(Optional.of(job));
+
+        mockMvc.perform(get("/api/resumes/parse/job1").principal(user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.result.name").value("Jane Doe"));
+    }
+
+    @Test
+    public void testGetParseJob_NotFound() throws Exception {
+        when(resumeParseService.getJob(anyString(), anyString())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/resumes/parse/job1").principal(user))
+                .andExpect(status().isNotFound());
+    }
+}
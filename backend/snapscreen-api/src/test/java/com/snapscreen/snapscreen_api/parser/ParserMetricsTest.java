@@ -0,0 +1,41 @@
+package com.snapscreen.snapscreen_api.parser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParserMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParserMetrics metrics = new ParserMetrics(registry);
+
+    @Test
+    public void testStagesAndDocumentSizes() {
+        long start = System.nanoTime();
+        metrics.recordStage(ParserMetrics.Stage.LINES, start);
+        metrics.recordDocument(2, 120, 40, 5);
+        metrics.recordDocument(1, 60, 20, 3);
+
+        assertEquals(1, registry.get("resume.parser.stage").tag("stage", "lines").timer().count());
+        assertEquals(0, registry.get("resume.parser.stage").tag("stage", "read").timer().count());
+        assertEquals(3, registry.get("resume.parser.document.pages").summary().totalAmount());
+        assertEquals(180, registry.get("resume.parser.document.text.items").summary().totalAmount());
+        assertEquals(30, registry.get("resume.parser.document.lines").summary().mean());
+        assertEquals(5, registry.get("resume.parser.document.sections").summary().max());
+    }
+
+    @Test
+    public void testFailuresAreCountedByCause() {
+        metrics.recordFailure(ParserMetrics.Stage.READ, new IOException("bad xref"));
+        metrics.recordFailure(ParserMetrics.Stage.READ, new IOException("truncated"));
+        metrics.recordFailure(ParserMetrics.Stage.EXTRACT, new IllegalStateException("deadline"));
+
+        assertEquals(2, registry.get("resume.parser.failures")
+            .tags("stage", "read", "exception", "IOException").counter().count());
+        assertEquals(1, registry.get("resume.parser.failures")
+            .tags("stage", "extract", "exception", "IllegalStateException").counter().count());
+    }
+}
@@ -0,0 +1,85 @@
+package com.snapscreen.snapscreen_api.parser;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import com.snapscreen.snapscreen_api.parser.read.PdfReader;
+import com.snapscreen.snapscreen_api.parser.read.group.LineGrouper;
+import com.snapscreen.snapscreen_api.parser.read.group.SectionGrouper;
+import com.snapscreen.snapscreen_api.parser.read.group.extract.ResumeExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ResumeParserTest {
+
+    private final ExecutorService pageExecutor = Executors.newSingleThreadExecutor();
+    private final LineGrouper lineGrouper = new LineGrouper(pageExecutor);
+    private final SectionGrouper sectionGrouper = new SectionGrouper(pageExecutor);
+    private final ResumeParser resumeParser = new ResumeParser(mock(PdfReader.class), lineGrouper, sectionGrouper,
+        mock(ResumeExtractor.class), new ParserMetrics(new SimpleMeterRegistry()));
+
+    @AfterEach
+    public void tearDown() {
+        pageExecutor.shutdownNow();
+    }
+
+    private static void line(List<TextItem> page, int pageNumber, float y, boolean newLine, String... words) {
+        for (int i = 0; i < words.length; i++) {
+            page.add(new TextItem(words[i], 50 + i * 60f, 100 + i * 60f, y, false, newLine && i == 0, pageNumber));
+        }
+    }
+
+    /**
+     * Feed the pages one at a time, the way PdfReader does
+     */
+    private static List<Boolean> stopAfterEachPage(Predicate<List<TextItem>> stopAfterPage, List<List<TextItem>> pages) {
+        List<TextItem> read = new ArrayList<>();
+        List<Boolean> stops = new ArrayList<>();
+        for (List<TextItem> page : pages) {
+            read.addAll(page);
+            stops.add(stopAfterPage.test(read));
+        }
+        return stops;
+    }
+
+    @Test
+    public void testProfileOnlyStopsAtTheFirstOtherSectionLikeAFullRegrouping() {
+        List<List<TextItem>> pages = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pages.add(new ArrayList<>());
+        }
+        line(pages.get(0), 1, 700, true, "Jane", "Doe");
+        line(pages.get(0), 1, 680, true, "Summary");
+        line(pages.get(0), 1, 660, true, "Engineer", "who");
+        // Page 2 continues the last line of page 1
+        line(pages.get(1), 2, 700, false, "likes", "parsers");
+        line(pages.get(1), 2, 680, true, "jane@example.com");
+        line(pages.get(2), 3, 700, true, "Experience");
+        line(pages.get(2), 3, 680, true, "Acme", "Corp");
+        line(pages.get(3), 4, 700, true, "Skills");
+
+        List<Boolean> incremental = stopAfterEachPage(resumeParser.stopAfterPage(Set.of(ResumeField.PROFILE)), pages);
+        List<Boolean> regrouped = stopAfterEachPage(
+            items -> sectionGrouper.groupIntoSections(lineGrouper.groupIntoLines(items)).size() > 1, pages);
+
+        assertEquals(List.of(false, false, true, true), incremental);
+        assertEquals(regrouped, incremental);
+    }
+
+    @Test
+    public void testOtherFieldsReadEveryPage() {
+        List<TextItem> page = new ArrayList<>();
+        line(page, 1, 700, true, "Experience");
+
+        assertEquals(List.of(false), stopAfterEachPage(resumeParser.stopAfterPage(ResumeField.all()), List.of(page)));
+    }
+}
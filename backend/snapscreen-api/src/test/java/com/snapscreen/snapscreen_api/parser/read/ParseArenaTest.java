@@ -0,0 +1,87 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParseArenaTest {
+
+    @Test
+    public void testClose_RecyclesObjectsForTheNextParse() {
+        ParseArena arena = ParseArena.open();
+        TextItem item = arena.textItem("Java", 10, 40, 700, true, true, 1);
+        item.setFeatureBits(42);
+        ResumeLine line = arena.line();
+        line.setSectionTitle(true);
+        List<TextItem> list = arena.list(List.of(item));
+        arena.close(true);
+
+        ParseArena next = ParseArena.open();
+        try {
+            TextItem reused = next.textItem("Python", 50, 90, 600, false, false, 2);
+            assertSame(item, reused);
+            assertEquals("Python", reused.getText());
+            assertEquals(50, reused.getX1());
+            assertEquals(90, reused.getX2());
+            assertEquals(600, reused.getY());
+            assertFalse(reused.isBold());
+            assertFalse(reused.isNewLine());
+            assertEquals(2, reused.getPageNumber());
+            assertEquals(0, reused.getFeatureBits());
+
+            ResumeLine reusedLine = next.line();
+            assertSame(line, reusedLine);
+            assertFalse(reusedLine.isSectionTitle());
+
+            List<TextItem> reusedList = next.list();
+            assertSame(list, reusedList);
+            assertTrue(reusedList.isEmpty());
+        } finally {
+            next.close(true);
+        }
+    }
+
+    @Test
+    public void testClose_AfterFailureDropsObjects() {
+        ParseArena arena = ParseArena.open();
+        TextItem item = arena.textItem("Java", 10, 40, 700, false, true, 1);
+        arena.close(false);
+
+        ParseArena next = ParseArena.open();
+        try {
+            assertNotSame(item, next.textItem("Java", 10, 40, 700, false, true, 1));
+        } finally {
+            next.close(true);
+        }
+    }
+
+    @Test
+    public void testCurrent_AllocatesWhenNoParseIsOpen() {
+        ParseArena arena = ParseArena.current();
+        TextItem first = arena.textItem("Java", 10, 40, 700, false, true, 1);
+        arena.close(true);
+
+        assertNotSame(first, ParseArena.current().textItem("Java", 10, 40, 700, false, true, 1));
+    }
+
+    @Test
+    public void testOpen_NestedParseDoesNotRecycleTheOuterOne() {
+        ParseArena outer = ParseArena.open();
+        try {
+            TextItem item = outer.textItem("Java", 10, 40, 700, false, true, 1);
+
+            ParseArena inner = ParseArena.open();
+            assertNotSame(outer, inner);
+            inner.close(true);
+
+            assertSame(outer, ParseArena.current());
+            assertEquals("Java", item.getText());
+        } finally {
+            outer.close(true);
+        }
+    }
+}
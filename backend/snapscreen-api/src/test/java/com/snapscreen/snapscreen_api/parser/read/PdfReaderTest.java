@@ -0,0 +1,144 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PdfReaderTest {
+
+    private static byte[] pdf;
+
+    private final PdfReader pdfReader = new PdfReader(new PageCache(0, new SimpleMeterRegistry()));
+
+    @BeforeAll
+    public static void createPdf() throws IOException {
+        pdf = pdf("Jane Doe", "Experience");
+    }
+
+    private static byte[] pdf(String... pageTexts) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String text : pageTexts) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA_BOLD, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText(text);
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static List<String> texts(List<TextItem> textItems) {
+        List<String> texts = new ArrayList<>();
+        for (TextItem textItem : textItems) {
+            texts.add(textItem.getPageNumber() + ":" + textItem.getText());
+        }
+        return texts;
+    }
+
+    @Test
+    public void testAllSourcesReadTheSameItems(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("resume.pdf");
+        Files.write(file, pdf);
+        List<String> expected = texts(pdfReader.extractTextFromPdf(file.toFile()));
+        assertFalse(expected.isEmpty());
+
+        assertEquals(expected, texts(pdfReader.extractTextFromPdf(pdf)));
+        assertEquals(expected, texts(pdfReader.extractTextFromPdf(new ByteArrayInputStream(pdf))));
+
+        ByteBuffer readOnly = ByteBuffer.wrap(pdf).asReadOnlyBuffer();
+        assertEquals(expected, texts(pdfReader.extractTextFromPdf(readOnly)));
+        assertEquals(0, readOnly.position());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            assertEquals(expected, texts(pdfReader.extractTextFromPdf(mapped)));
+        }
+    }
+
+    @Test
+    public void testBufferIsReadFromItsPosition() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(pdf.length + 3);
+        buffer.put(new byte[] {1, 2, 3}).put(pdf).flip().position(3);
+
+        assertEquals(texts(pdfReader.extractTextFromPdf(pdf)), texts(pdfReader.extractTextFromPdf(buffer)));
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void testStopsAfterPage() throws IOException {
+        List<TextItem> textItems = pdfReader.extractTextFromPdf(pdf, items -> !items.isEmpty());
+
+        assertFalse(textItems.isEmpty());
+        assertTrue(textItems.stream().allMatch(item -> item.getPageNumber() == 1));
+    }
+
+    @Test
+    public void testReUploadReadsOnlyChangedPages() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PdfReader cachedReader = new PdfReader(new PageCache(10_000, registry));
+        cachedReader.extractTextFromPdf(pdf);
+
+        byte[] edited = pdf("Jane Doe", "Education");
+        assertEquals(texts(pdfReader.extractTextFromPdf(edited)), texts(cachedReader.extractTextFromPdf(edited)));
+        assertEquals(1, registry.get("resume.parser.page.cache").tag("result", "hit").counter().count());
+        assertEquals(3, registry.get("resume.parser.page.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    public void testCachedPageTakesItsNewPageNumber() throws IOException {
+        PdfReader cachedReader = new PdfReader(new PageCache(10_000, new SimpleMeterRegistry()));
+        cachedReader.extractTextFromPdf(pdf);
+
+        byte[] reordered = pdf("Experience", "Jane Doe");
+        List<TextItem> textItems = cachedReader.extractTextFromPdf(reordered);
+        assertEquals(texts(pdfReader.extractTextFromPdf(reordered)), texts(textItems));
+        assertEquals(1, textItems.get(0).getPageNumber());
+    }
+
+    @Test
+    public void testPageWithoutResourcesIsRead() throws IOException {
+        byte[] withBlankPage;
+        try (PDDocument document = PDDocument.load(pdf); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage blank = new PDPage();
+            blank.getCOSObject().removeItem(COSName.RESOURCES);
+            document.addPage(blank);
+            document.save(out);
+            withBlankPage = out.toByteArray();
+        }
+        PdfReader cachedReader = new PdfReader(new PageCache(10_000, new SimpleMeterRegistry()));
+
+        assertEquals(texts(pdfReader.extractTextFromPdf(withBlankPage)), texts(cachedReader.extractTextFromPdf(withBlankPage)));
+        assertEquals(texts(pdfReader.extractTextFromPdf(withBlankPage)), texts(cachedReader.extractTextFromPdf(withBlankPage)));
+    }
+
+    @Test
+    public void testInvalidBufferFails() {
+        assertThrows(IOException.class, () -> pdfReader.extractTextFromPdf(ByteBuffer.wrap(new byte[] {'%', 'x'})));
+    }
+}
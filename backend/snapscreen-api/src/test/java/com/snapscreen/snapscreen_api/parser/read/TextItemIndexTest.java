@@ -0,0 +1,79 @@
+package com.snapscreen.snapscreen_api.parser.read;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextItemIndexTest {
+
+    private TextItem item(String text, float x1, float x2, float y, int page) {
+        return new TextItem(text, x1, x2, y, false, false, page);
+    }
+
+    @Test
+    public void testSameBand_FindsRightAlignedDate() {
+        TextItem title = item("Software Engineer", 50, 150, 100, 1);
+        TextItem date = item("Jan 2020 - Present", 450, 550, 101.5f, 1);
+        TextItem company = item("Acme Corp", 50, 120, 115, 1);
+        TextItem otherPage = item("Jan 2019", 450, 550, 100, 2);
+
+        TextItemIndex index = TextItemIndex.build(List.of(title, date, company, otherPage));
+
+        assertEquals(List.of(date), index.sameBand(title, 2.0f));
+        assertSame(date, index.rightmostInBand(title, 2.0f));
+        assertNull(index.rightmostInBand(company, 2.0f));
+    }
+
+    @Test
+    public void testRange_ReportsWideItemsOnce() {
+        TextItem wide = item("A very long summary line", 0, 500, 50, 1);
+        List<TextItem> items = new ArrayList<>();
+        items.add(wide);
+        for (int i = 0; i < 50; i++) {
+            items.add(item("w" + i, i * 10, i * 10 + 8, 200 + i, 1));
+        }
+
+        TextItemIndex index = TextItemIndex.build(items);
+
+        List<TextItem> hits = index.range(1, 0, 40, 600, 60);
+        assertEquals(List.of(wide), hits);
+        assertEquals(11, index.range(1, 0, 200, 600, 210).size());
+    }
+
+    @Test
+    public void testNearest_MatchesBruteForce() {
+        List<TextItem> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float x = (i * 37) % 500;
+            float y = (i * 53) % 700;
+            items.add(item("t" + i, x, x + 20, y, 1));
+        }
+        TextItemIndex index = TextItemIndex.build(items);
+
+        for (TextItem query : items) {
+            TextItem expected = null;
+            float expectedDistance = Float.MAX_VALUE;
+            float qx = (query.getX1() + query.getX2()) / 2f;
+            for (TextItem candidate : items) {
+                if (candidate == query) {
+                    continue;
+                }
+                float dx = qx < candidate.getX1() ? candidate.getX1() - qx : (qx > candidate.getX2() ? qx - candidate.getX2() : 0f);
+                float dy = candidate.getY() - query.getY();
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
+                if (distance < expectedDistance) {
+                    expectedDistance = distance;
+                    expected = candidate;
+                }
+            }
+            TextItem actual = index.nearest(query);
+            float ax = qx < actual.getX1() ? actual.getX1() - qx : (qx > actual.getX2() ? qx - actual.getX2() : 0f);
+            float ay = actual.getY() - query.getY();
+            assertEquals(expectedDistance, (float) Math.sqrt(ax * ax + ay * ay), 1e-3, "nearest to " + expected);
+        }
+    }
+}
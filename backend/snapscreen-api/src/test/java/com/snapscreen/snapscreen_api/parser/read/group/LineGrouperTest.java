@@ -0,0 +1,122 @@
+package com.snapscreen.snapscreen_api.parser.read.group;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LineGrouperTest {
+
+    private final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+    private final ExecutorService fourThreads = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        singleThread.shutdownNow();
+        fourThreads.shutdownNow();
+    }
+
+    /**
+     * A document whose even pages open by continuing the last line of the previous page
+     */
+    private static List<TextItem> document(int pages, int linesPerPage, int wordsPerLine) {
+        List<TextItem> items = new ArrayList<>();
+        for (int page = 1; page <= pages; page++) {
+            for (int line = 0; line < linesPerPage; line++) {
+                boolean continuation = line == 0 && page % 2 == 0;
+                for (int word = 0; word < wordsPerLine; word++) {
+                    items.add(new TextItem("p" + page + "l" + line + "w" + word,
+                            (continuation ? 300f : 0f) + word * 40f, (continuation ? 300f : 0f) + word * 40f + 30f,
+                            700f - line * 12f, false, word == 0 && !continuation, page));
+                }
+            }
+        }
+        // Interleave the pages the way a careless producer might
+        List<TextItem> shuffled = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += 2) {
+            shuffled.add(items.get(i));
+        }
+        for (int i = 1; i < items.size(); i += 2) {
+            shuffled.add(items.get(i));
+        }
+        return shuffled;
+    }
+
+    private static List<String> texts(List<ResumeLine> lines) {
+        List<String> texts = new ArrayList<>();
+        for (ResumeLine line : lines) {
+            texts.add(line.getPageNumber() + ":" + line.getText());
+        }
+        return texts;
+    }
+
+    /**
+     * Group the whole document in one pass, in page then reading order, as the grouper must
+     */
+    private static List<String> singlePass(List<TextItem> textItems) {
+        List<TextItem> ordered = new ArrayList<>(textItems);
+        ordered.sort(Comparator.comparingInt(TextItem::getPageNumber).thenComparing((a, b) -> {
+            if (Math.abs(a.getY() - b.getY()) < 2.0f) {
+                return Float.compare(a.getX1(), b.getX1());
+            }
+            return Float.compare(b.getY(), a.getY());
+        }));
+
+        List<List<TextItem>> groups = new ArrayList<>();
+        for (TextItem item : ordered) {
+            if (groups.isEmpty() || item.isNewLine()) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(groups.size() - 1).add(item);
+        }
+
+        List<String> texts = new ArrayList<>();
+        for (List<TextItem> group : groups) {
+            group.sort(Comparator.comparingDouble(TextItem::getX1));
+            List<String> words = new ArrayList<>();
+            for (TextItem item : group) {
+                words.add(item.getText());
+            }
+            texts.add(group.get(0).getPageNumber() + ":" + String.join(" ", words));
+        }
+        return texts;
+    }
+
+    @Test
+    public void testPerPageGroupingMatchesASinglePass() {
+        // Above the parallel threshold: pages are grouped on the pool and stitched
+        List<String> expected = singlePass(document(6, 40, 6));
+        List<String> parallel = texts(new LineGrouper(fourThreads).groupIntoLines(document(6, 40, 6)));
+
+        assertEquals(6 * 40 - 3, parallel.size());
+        assertEquals(expected, parallel);
+        assertEquals(expected, texts(new LineGrouper(singleThread).groupIntoLines(document(6, 40, 6))));
+        assertEquals("1:p1l0w0 p1l0w1 p1l0w2 p1l0w3 p1l0w4 p1l0w5", parallel.get(0));
+        assertEquals("1:p1l39w0 p1l39w1 p1l39w2 p1l39w3 p1l39w4 p1l39w5 p2l0w0 p2l0w1 p2l0w2 p2l0w3 p2l0w4 p2l0w5",
+            parallel.get(39));
+
+        // Below it: pages are grouped on the caller thread and stitched
+        assertEquals(singlePass(document(4, 10, 6)), texts(new LineGrouper(fourThreads).groupIntoLines(document(4, 10, 6))));
+    }
+
+    @Test
+    public void testLineContinuingOnNextPageIsStitched() {
+        List<TextItem> items = new ArrayList<>();
+        items.add(new TextItem("Senior", 10, 50, 100, false, true, 1));
+        items.add(new TextItem("Engineer", 60, 120, 100, false, false, 1));
+        items.add(new TextItem("(cont.)", 130, 170, 700, false, false, 2));
+        items.add(new TextItem("Next", 10, 50, 680, false, true, 2));
+
+        List<ResumeLine> lines = new LineGrouper(fourThreads).groupIntoLines(items);
+
+        assertEquals(List.of("1:Senior Engineer (cont.)", "2:Next"), texts(lines));
+    }
+}
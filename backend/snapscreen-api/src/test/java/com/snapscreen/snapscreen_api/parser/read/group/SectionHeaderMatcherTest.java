@@ -0,0 +1,58 @@
+package com.snapscreen.snapscreen_api.parser.read.group;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SectionHeaderMatcherTest {
+
+    private final SectionHeaderMatcher matcher = new SectionHeaderMatcher(keywords());
+
+    private static Map<String, List<String>> keywords() {
+        Map<String, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put("education", Arrays.asList("education", "university"));
+        keywords.put("experience", Arrays.asList("experience", "employment", "work", "job"));
+        keywords.put("skills", Arrays.asList("skills", "core competencies"));
+        keywords.put("projects", Arrays.asList("projects"));
+        return keywords;
+    }
+
+    @Test
+    public void testExactMatches() {
+        assertEquals("education", matcher.match("education"));
+        assertEquals("experience", matcher.match("work history"));
+        assertEquals("skills", matcher.match("core competencies"));
+        // Earlier sections take precedence, as before
+        assertEquals("education", matcher.match("university work"));
+    }
+
+    @Test
+    public void testTyposAreMatched() {
+        assertEquals("experience", matcher.match("experiance"));
+        assertEquals("education", matcher.match("educaton"));
+        assertEquals("experience", matcher.match("profesional experiance"));
+        assertEquals("skills", matcher.match("skils"));
+        assertEquals("projects", matcher.match("projetcs"));
+    }
+
+    @Test
+    public void testNonHeadersAreRejected() {
+        assertNull(matcher.match("jane doe"));
+        assertNull(matcher.match("project manager"));
+        assertNull(matcher.match("jog"));
+        assertNull(matcher.match(""));
+    }
+
+    @Test
+    public void testBoundedDistance() {
+        assertEquals(0, SectionHeaderMatcher.boundedDistance("skills", "skills", 1));
+        assertEquals(1, SectionHeaderMatcher.boundedDistance("skils", "skills", 1));
+        assertEquals(1, SectionHeaderMatcher.boundedDistance("sklils", "skills", 1));
+        assertEquals(2, SectionHeaderMatcher.boundedDistance("experience", "expreince", 1));
+    }
+}
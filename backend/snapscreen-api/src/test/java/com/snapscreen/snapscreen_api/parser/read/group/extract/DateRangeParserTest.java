@@ -0,0 +1,80 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.DateRange;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateRangeParserTest {
+
+    private final DateRangeParser parser = DateRangeParser.forCurrentThread();
+
+    private DateRange parse(String text) {
+        parser.parse(text);
+        return parser.toDateRange();
+    }
+
+    @Test
+    public void testMonthRanges() {
+        DateRange range = parse("Sep 2012 - May 2016");
+        assertEquals(YearMonth.of(2012, 9), range.getStart());
+        assertEquals(YearMonth.of(2016, 5), range.getEnd());
+        assertEquals(DateRange.Precision.MONTH, range.getPrecision());
+        assertEquals("Sep 2012", parser.startText());
+        assertEquals("May 2016", parser.endText());
+
+        range = parse("Sept. 2018 — 03/2020");
+        assertEquals(YearMonth.of(2018, 9), range.getStart());
+        assertEquals(YearMonth.of(2020, 3), range.getEnd());
+
+        range = parse("January 5th, 2021 – present");
+        assertEquals(YearMonth.of(2021, 1), range.getStart());
+        assertNull(range.getEnd());
+        assertTrue(range.isOngoing());
+        assertEquals("present", parser.endText());
+    }
+
+    @Test
+    public void testYearsAndSeasons() {
+        DateRange range = parse("2014 2018");
+        assertEquals(YearMonth.of(2014, 1), range.getStart());
+        assertEquals(YearMonth.of(2018, 1), range.getEnd());
+        assertEquals(DateRange.Precision.YEAR, range.getPrecision());
+
+        range = parse("Fall 2018 to Spring 2022");
+        assertEquals(YearMonth.of(2018, 9), range.getStart());
+        assertEquals(YearMonth.of(2022, 3), range.getEnd());
+        assertEquals(DateRange.Precision.SEASON, range.getPrecision());
+
+        // Mixed precision reports the coarser one
+        assertEquals(DateRange.Precision.YEAR, parse("Jun 2019-2021").getPrecision());
+    }
+
+    @Test
+    public void testToIsOnlyAWholeWord() {
+        DateRange range = parse("Toronto, ON 2019");
+        assertEquals(YearMonth.of(2019, 1), range.getStart());
+        assertNull(range.getEnd());
+        assertEquals("2019", parser.startText());
+        assertEquals("", parser.endText());
+
+        // A month name is not carried across an unrelated word
+        assertEquals(DateRange.Precision.YEAR, parse("May Toronto 2019").getPrecision());
+    }
+
+    @Test
+    public void testNoDate() {
+        assertFalse(parser.parse("Expected soon"));
+        assertNull(parser.toDateRange());
+        assertEquals("Expected soon", parser.startText());
+
+        assertFalse(parser.parse(null));
+        assertEquals("", parser.startText());
+        assertEquals("", parser.endText());
+
+        // Present without a start is not a range
+        assertFalse(parser.parse("Present"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeSection;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Education;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Profile;
+import com.snapscreen.snapscreen_api.model.resumeparser.attributes.Skills;
+import com.snapscreen.snapscreen_api.parser.ParserMetrics;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ResumeExtractorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final Map<String, ResumeSection> sections = Map.of();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParserMetrics metrics = new ParserMetrics(registry);
+
+    private ProfileExtractor profileExtractor;
+    private EducationExtractor educationExtractor;
+    private ExperienceExtractor experienceExtractor;
+    private SkillsExtractor skillsExtractor;
+
+    @BeforeEach
+    public void setUp() {
+        profileExtractor = mock(ProfileExtractor.class);
+        educationExtractor = mock(EducationExtractor.class);
+        experienceExtractor = mock(ExperienceExtractor.class);
+        skillsExtractor = mock(SkillsExtractor.class);
+
+        Profile profile = new Profile();
+        profile.setName("Jane Doe");
+        Education education = new Education();
+        education.setSchool("University of Toronto");
+        Skills skills = new Skills();
+        skills.addSkill("Java");
+
+        when(profileExtractor.extractProfile(anyMap())).thenReturn(profile);
+        when(educationExtractor.extractEducation(anyMap())).thenReturn(List.of(education));
+        when(experienceExtractor.extractExperience(anyMap(), any())).thenReturn(List.of());
+        when(skillsExtractor.extractSkills(anyMap())).thenReturn(skills);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ResumeExtractor extractor(boolean concurrent, long deadlineMillis) {
+        return new ResumeExtractor(profileExtractor, educationExtractor, experienceExtractor, skillsExtractor,
+            metrics, executor, concurrent, deadlineMillis);
+    }
+
+    @Test
+    public void testConcurrentMatchesSequential() {
+        ParsedResume sequential = extractor(false, 1000).extractResumeFromSections(sections);
+        ParsedResume concurrent = extractor(true, 1000).extractResumeFromSections(sections);
+
+        assertEquals(sequential.getName(), concurrent.getName());
+        assertEquals("University of Toronto", concurrent.getEducations().get(0).getSchool());
+        assertEquals(List.of("Java"), concurrent.getSkills().getSkills());
+        assertTrue(concurrent.getExperiences().isEmpty());
+    }
+
+    @Test
+    public void testFirstFailureCancelsTheRest() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(educationExtractor.extractEducation(anyMap())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of();
+        });
+        when(skillsExtractor.extractSkills(anyMap())).thenThrow(new IllegalArgumentException("bad skills"));
+
+        long start = System.nanoTime();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> extractor(true, 60_000).extractResumeFromSections(sections));
+
+        assertEquals("bad skills", e.getMessage());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDeadline() {
+        when(experienceExtractor.extractExperience(anyMap(), any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return List.of();
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> extractor(true, 100).extractResumeFromSections(sections));
+        assertTrue(e.getMessage().contains("100 ms"));
+    }
+
+    @Test
+    public void testOnlyRequestedFieldsAreExtracted() {
+        for (boolean concurrent : new boolean[] {false, true}) {
+            ParsedResume resume = extractor(concurrent, 1000)
+                .extractResumeFromSections(sections, null, EnumSet.of(ResumeField.PROFILE, ResumeField.SKILLS));
+
+            assertEquals("Jane Doe", resume.getName());
+            assertEquals(List.of("Java"), resume.getSkills().getSkills());
+            // Skipped parts keep their empty defaults
+            assertTrue(resume.getEducations().isEmpty());
+            assertTrue(resume.getExperiences().isEmpty());
+        }
+        verifyNoInteractions(educationExtractor, experienceExtractor);
+    }
+
+    @Test
+    public void testExtractorsAreTimed() {
+        extractor(true, 1000).extractResumeFromSections(sections, null, EnumSet.of(ResumeField.PROFILE, ResumeField.SKILLS));
+        extractor(false, 1000).extractResumeFromSections(sections, null, EnumSet.of(ResumeField.SKILLS));
+
+        assertEquals(1, extractorCount("profile"));
+        assertEquals(2, extractorCount("skills"));
+        assertEquals(0, extractorCount("education"));
+    }
+
+    private long extractorCount(String extractor) {
+        return registry.get("resume.parser.extractor").tag("extractor", extractor).timer().count();
+    }
+}
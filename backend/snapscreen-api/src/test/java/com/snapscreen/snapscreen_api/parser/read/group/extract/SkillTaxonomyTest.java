@@ -0,0 +1,67 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SkillTaxonomyTest {
+
+    private final SkillTaxonomy taxonomy = new SkillTaxonomy(new ClassPathResource("parser/skill-taxonomy.json"));
+
+    private String canonical(String candidate) {
+        int skillId = taxonomy.lookup(candidate);
+        return skillId < 0 ? null : taxonomy.canonicalName(skillId);
+    }
+
+    @Test
+    public void testAliasesAreCanonicalised() {
+        assertEquals("Kubernetes", canonical("k8s"));
+        assertEquals("JavaScript", canonical("JS"));
+        assertEquals("Node.js", canonical("  NodeJS "));
+        assertEquals("GCP", canonical("google   cloud"));
+        assertEquals("Spanish", canonical("Español"));
+        assertNull(canonical("Kubernetes operators"));
+        assertNull(canonical(""));
+    }
+
+    @Test
+    public void testCategories() {
+        assertEquals(SkillTaxonomy.Category.TECHNICAL, taxonomy.category(taxonomy.lookup("Go")));
+        assertEquals(SkillTaxonomy.Category.LANGUAGE, taxonomy.category(taxonomy.lookup("mandarin")));
+        assertEquals(SkillTaxonomy.Category.CERTIFICATION, taxonomy.category(taxonomy.lookup("PMP")));
+
+        assertEquals(SkillTaxonomy.Category.TECHNICAL, taxonomy.classifyByKeywords("Java Spring Boot microservices"));
+        assertEquals(SkillTaxonomy.Category.LANGUAGE, taxonomy.classifyByKeywords("Fluent in Portuguese"));
+        assertEquals(SkillTaxonomy.Category.CERTIFICATION, taxonomy.classifyByKeywords("Food Safety Certificate"));
+        assertEquals(SkillTaxonomy.Category.OTHER, taxonomy.classifyByKeywords("Public speaking"));
+    }
+
+    @Test
+    public void testConflictingAliasesFailAtStartup() {
+        String json = "{ \"skills\": ["
+            + "{ \"name\": \"Computer Vision\", \"category\": \"technical\", \"aliases\": [\"cv\"] },"
+            + "{ \"name\": \"Curriculum Vitae\", \"category\": \"other\", \"aliases\": [\"CV\"] } ] }";
+        assertThrows(IllegalStateException.class,
+            () -> new SkillTaxonomy(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testManySkills() {
+        StringBuilder json = new StringBuilder("{ \"skills\": [");
+        for (int i = 0; i < 20000; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{ \"name\": \"Skill ").append(i).append("\", \"category\": \"technical\", \"aliases\": [\"s")
+                .append(i).append("\"] }");
+        }
+        json.append("] }");
+        SkillTaxonomy large = new SkillTaxonomy(new ByteArrayResource(json.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(20000, large.size());
+        assertEquals("Skill 12345", large.canonicalName(large.lookup("S12345")));
+        assertEquals(-1, large.lookup("s20000"));
+    }
+}
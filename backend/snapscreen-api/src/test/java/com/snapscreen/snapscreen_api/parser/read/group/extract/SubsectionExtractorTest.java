@@ -0,0 +1,53 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubsectionExtractorTest {
+
+    private final SubsectionExtractor subsectionExtractor = new SubsectionExtractor();
+
+    private static ResumeLine line(String text, float y, int page) {
+        ResumeLine line = new ResumeLine(new TextItem(text, 10, 200, y, false, true, page));
+        line.setText(text);
+        line.setY(y);
+        line.setPageNumber(page);
+        return line;
+    }
+
+    private static List<Integer> sizes(List<List<ResumeLine>> subsections) {
+        List<Integer> sizes = new ArrayList<>();
+        for (List<ResumeLine> subsection : subsections) {
+            sizes.add(subsection.size());
+        }
+        return sizes;
+    }
+
+    @Test
+    public void testDividesByLineGap() {
+        List<ResumeLine> lines = List.of(
+            line("Acme Corp", 100, 1), line("Engineer", 112, 1), line("Built things", 124, 1),
+            line("Globex", 150, 1), line("Developer", 162, 1));
+
+        assertEquals(List.of(3, 2), sizes(subsectionExtractor.divideSectionIntoSubsections(lines)));
+    }
+
+    @Test
+    public void testPageBreaksDoNotSkewTheTypicalGap() {
+        // Counted naively, the jumps between pages would be the most common gap
+        List<ResumeLine> lines = List.of(
+            line("Acme Corp", 100, 1), line("Engineer", 112, 1),
+            line("Globex", 700, 2),
+            line("Initech", 100, 3),
+            line("Hooli", 700, 4), line("Tester", 712, 4),
+            line("Pied Piper", 752, 4));
+
+        assertEquals(List.of(2, 1, 1, 2, 1), sizes(subsectionExtractor.divideSectionIntoSubsections(lines)));
+    }
+}
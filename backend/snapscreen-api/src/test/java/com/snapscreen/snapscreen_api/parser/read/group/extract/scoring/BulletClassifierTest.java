@@ -0,0 +1,47 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulletClassifierTest {
+
+    private static List<ResumeLine> lines(String... texts) {
+        List<ResumeLine> lines = new ArrayList<>();
+        for (String text : texts) {
+            ResumeLine line = new ResumeLine();
+            line.setText(text);
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    @Test
+    public void testClassification() {
+        assertTrue(BulletClassifier.containsBullet("• Built things"));
+        assertTrue(BulletClassifier.containsBullet("Shipped " + Character.toString(0x1F784) + " fast"));
+        assertTrue(BulletClassifier.containsBullet("full-stack"));
+        assertFalse(BulletClassifier.containsBullet("Plain text, no bullets."));
+        assertEquals(-1, BulletClassifier.kindOf('a'));
+        assertEquals('•', BulletClassifier.bullet(BulletClassifier.kindOf('•')));
+        assertEquals(0x1F784, BulletClassifier.bullet(BulletClassifier.kindOf(0x1F784)));
+    }
+
+    @Test
+    public void testMostCommonKindCountsLines() {
+        List<ResumeLine> lines = lines("• Led a team - of five", "• Cut costs", "Rebuilt the full-stack app");
+        assertEquals(BulletClassifier.kindOf('•'), BulletClassifier.mostCommonKind(lines));
+        assertEquals(-1, BulletClassifier.mostCommonKind(lines("No bullets here")));
+    }
+
+    @Test
+    public void testBulletLengthIncludesVariationSelector() {
+        assertEquals(2, BulletClassifier.bulletLength("⚫︎ x", 0));
+        assertEquals(1, BulletClassifier.bulletLength("• x", 0));
+        assertEquals(0, BulletClassifier.bulletLength("x", 0));
+    }
+}
@@ -0,0 +1,68 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ResumeLine;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulletSplitterTest {
+
+    private static List<ResumeLine> lines(String... texts) {
+        List<ResumeLine> lines = new ArrayList<>();
+        for (String text : texts) {
+            ResumeLine line = new ResumeLine();
+            line.setText(text);
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    @Test
+    public void testSplitAcrossLinesWithProvenance() {
+        List<ResumeLine> lines = lines("⚫︎ Designed the parser", "pipeline ⚫︎ Wrote tests  ", "⚫︎");
+        List<BulletSplitter.BulletPoint> bulletPoints =
+            BulletSplitter.split(lines, BulletClassifier.kindOf(0x26AB));
+
+        assertEquals(List.of(
+            new BulletSplitter.BulletPoint("Designed the parser pipeline", 0, 3, 1, 8),
+            new BulletSplitter.BulletPoint("Wrote tests", 1, 12, 1, 23)
+        ), bulletPoints);
+    }
+
+    @Test
+    public void testMatchesJoinAndSplit() {
+        List<ResumeLine> lines = lines("  • First  ", "", "continued •", "   ", "• Second • • Third", "tail ");
+        String joined = String.join(" ", lines.stream().map(ResumeLine::getText).toList());
+        List<String> expected = new ArrayList<>();
+        for (String part : joined.split("•")) {
+            if (!part.trim().isEmpty()) {
+                expected.add(part.trim());
+            }
+        }
+
+        List<String> texts = new ArrayList<>();
+        for (BulletSplitter.BulletPoint bulletPoint : BulletSplitter.split(lines, BulletClassifier.kindOf('•'))) {
+            texts.add(bulletPoint.text());
+            // The span points at the first and last char of the text
+            assertEquals(bulletPoint.text().charAt(0),
+                lines.get(bulletPoint.startLine()).getText().charAt(bulletPoint.startOffset()));
+            assertEquals(bulletPoint.text().charAt(bulletPoint.text().length() - 1),
+                lines.get(bulletPoint.endLine()).getText().charAt(bulletPoint.endOffset() - 1));
+        }
+        assertEquals(expected, texts);
+        assertEquals(3, texts.size());
+    }
+
+    @Test
+    public void testWithoutBulletsEveryLineIsKept() {
+        List<BulletSplitter.BulletPoint> bulletPoints = BulletSplitter.split(lines("One", " ", "Two"), -1);
+
+        assertEquals(List.of(
+            new BulletSplitter.BulletPoint("One", 0, 0, 0, 3),
+            new BulletSplitter.BulletPoint("Two", 2, 0, 2, 3)
+        ), bulletPoints);
+    }
+}
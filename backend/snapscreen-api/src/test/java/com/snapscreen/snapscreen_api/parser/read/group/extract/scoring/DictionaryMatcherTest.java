@@ -0,0 +1,89 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryMatcherTest {
+
+    private static List<String> found(DictionaryMatcher matcher, String text, boolean wholeWords) {
+        List<String> found = new ArrayList<>();
+        for (DictionaryMatcher.Match match : matcher.findAll(text, wholeWords)) {
+            assertEquals(matcher.word(match.word()), text.substring(match.start(), match.end()));
+            found.add(matcher.word(match.word()));
+        }
+        return found;
+    }
+
+    @Test
+    public void testOverlappingMatches() {
+        DictionaryMatcher matcher = DictionaryMatcher.of(List.of("he", "she", "his", "hers", "she"));
+
+        assertEquals(4, matcher.size());
+        assertEquals(List.of("she", "he", "hers"), found(matcher, "ushers", false));
+        assertTrue(matcher.containsAny("ushers"));
+        assertFalse(matcher.containsAny("HERS"));
+    }
+
+    @Test
+    public void testWholeWords() {
+        DictionaryMatcher matcher = DictionaryMatcher.of(List.of("Engineer", "Lead", "Co-op"));
+
+        assertTrue(matcher.containsAnyWord("Software Engineer"));
+        assertTrue(matcher.containsAnyWord("Co-op\tStudent"));
+        assertFalse(matcher.containsAnyWord("Engineering Leadership"));
+        assertFalse(matcher.containsAnyWord("Engineer,"));
+        assertTrue(matcher.containsAny("Engineering Leadership"));
+        assertEquals(List.of("Lead", "Engineer"), found(matcher, "Lead Engineer", true));
+    }
+
+    @Test
+    public void testMatchesNaiveScan() {
+        String[] dictionary = { "College", "University", "Institute", "School", "Academy", "BASIS", "Magnet",
+            "Co", "ge", "Uni", "a", "Ph.", "Bachelor", "Master" };
+        DictionaryMatcher matcher = DictionaryMatcher.of(Arrays.asList(dictionary));
+        String alphabet = "CollegeUniversityPh. BAS\tMa";
+        Random random = new Random(7);
+
+        for (int n = 0; n < 20000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = builder.toString();
+
+            boolean contains = Arrays.stream(dictionary).anyMatch(text::contains);
+            boolean hasWord = Arrays.stream(text.split("\\s+"))
+                .anyMatch(token -> Arrays.asList(dictionary).contains(token));
+            assertEquals(contains, matcher.containsAny(text), text);
+            assertEquals(hasWord, matcher.containsAnyWord(text), text);
+            assertEquals(contains, !matcher.findAll(text, false).isEmpty(), text);
+            assertEquals(hasWord, !matcher.findAll(text, true).isEmpty(), text);
+        }
+    }
+
+    @Test
+    public void testLargeDictionary() {
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            dictionary.add("Title" + i);
+        }
+        DictionaryMatcher matcher = DictionaryMatcher.of(dictionary);
+
+        assertTrue(matcher.containsAnyWord("Senior Title4999"));
+        assertFalse(matcher.containsAnyWord("Senior Title49999"));
+        assertEquals(List.of("Title4", "Title49", "Title499", "Title4999"), found(matcher, "Title49999", false).subList(0, 4));
+    }
+
+    @Test
+    public void testEmptyWordsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> DictionaryMatcher.of(List.of("a", "")));
+        assertFalse(DictionaryMatcher.of(List.of()).containsAny("anything"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeatureBitsTest {
+
+    private static final long ALL = (1L << FeatureBits.COUNT) - 1;
+
+    private static TextItem item(String text, boolean bold) {
+        return new TextItem(text, 0, 10, 0, bold, true, 1);
+    }
+
+    @Test
+    public void testComputeBits() {
+        assertEquals(FeatureBits.BOLD | FeatureBits.HAS_LETTER | FeatureBits.ALL_UPPERCASE,
+            FeatureBits.of(item("JANE DOE", true)) & ALL);
+        assertEquals(FeatureBits.HAS_LETTER | FeatureBits.HAS_NUMBER | FeatureBits.HAS_YEAR
+                | FeatureBits.HAS_MONTH | FeatureBits.HAS_PRESENT,
+            FeatureBits.of(item("Sep 2021 - Present", false)) & ALL);
+        assertEquals(FeatureBits.HAS_LETTER | FeatureBits.HAS_COMMA | FeatureBits.HAS_SEASON,
+            FeatureBits.of(item("Fall, term", false)) & ALL);
+        assertEquals(0, FeatureBits.of(item("-", false)) & ALL);
+    }
+
+    @Test
+    public void testBitsAreCachedAndInvalidated() {
+        TextItem textItem = item("hello", false);
+        FeatureBits.annotate(List.of(textItem));
+        assertNotEquals(0, textItem.getFeatureBits());
+        assertFalse(FeatureScoringSystem.isBold().test(textItem));
+
+        textItem.setBold(true);
+        assertTrue(FeatureScoringSystem.isBold().test(textItem));
+
+        textItem.setText("1999");
+        assertTrue(FeatureScoringSystem.hasNumber().test(textItem));
+        assertFalse(FeatureScoringSystem.hasLetter().test(textItem));
+    }
+
+    @Test
+    public void testBitKernelMatchesPredicateSum() {
+        FeatureRules rules = new FeatureRules(new ClassPathResource("parser/feature-rules.json"));
+        List<TextItem> items = List.of(
+            item("JANE DOE", true), item("jane@doe.com", false), item("Summer 2020", false),
+            item("Vancouver, BC", false), item("Software Engineer", true), item("3.9", false));
+
+        for (String name : List.of("profile.name", "profile.email", "education.gpa", "date", "experience.jobTitle")) {
+            FeatureScorer scorer = rules.scorer(name);
+            for (TextItem textItem : items) {
+                int expected = 0;
+                for (FeatureScoringSystem.FeatureSet featureSet : scorer.getFeatureSets()) {
+                    if (featureSet.getPredicate().test(textItem)) {
+                        expected += featureSet.getScore();
+                    }
+                }
+                assertEquals(expected, scorer.score(textItem), name + " / " + textItem.getText());
+            }
+        }
+    }
+}
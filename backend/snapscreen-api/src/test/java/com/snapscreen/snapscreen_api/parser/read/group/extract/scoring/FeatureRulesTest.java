@@ -0,0 +1,99 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeatureRulesTest {
+
+    private final FeatureRules rules = new FeatureRules(new ClassPathResource("parser/feature-rules.json"));
+    private final FeatureScoringSystem scoringSystem = new FeatureScoringSystem();
+
+    private static TextItem item(String text, boolean bold) {
+        return new TextItem(text, 0, 10, 0, bold, true, 1);
+    }
+
+    private static FeatureRules rules(String json) {
+        return new FeatureRules(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testProfileScorers() {
+        List<TextItem> items = List.of(
+            item("JANE DOE", true),
+            item("jane.doe@example.com", false),
+            item("(555) 123-4567", false),
+            item("Vancouver, BC", false),
+            item("github.com/janedoe", false));
+
+        assertEquals("JANE DOE", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.name")));
+        assertEquals("jane.doe@example.com", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.email")));
+        assertEquals("(555) 123-4567", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.phone")));
+        assertEquals("Vancouver, BC", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.location")));
+        assertEquals("github.com/janedoe", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.url")));
+        // No item has four words, so the summary stays empty
+        assertEquals("", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("profile.summary")));
+    }
+
+    @Test
+    public void testDictionaryScorers() {
+        List<TextItem> items = List.of(
+            item("University of British Columbia", true),
+            item("Bachelor of Science", false),
+            item("3.8", false),
+            item("Sep 2019 - May 2023", false));
+
+        assertEquals("University of British Columbia", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("education.school")));
+        assertEquals("Bachelor of Science", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("education.degree")));
+        assertEquals("3.8", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("education.gpa")));
+        assertEquals("Sep 2019 - May 2023", scoringSystem.getTextWithHighestFeatureScore(items, rules.scorer("date")));
+        assertEquals("Software Engineer", scoringSystem.getTextWithHighestFeatureScore(
+            List.of(item("Acme Corp", true), item("Software Engineer", false)), rules.scorer("experience.jobTitle")));
+    }
+
+    @Test
+    public void testIdenticalPredicatesAreShared() {
+        FeatureScorer name = rules.scorer("profile.name");
+        FeatureScorer location = rules.scorer("profile.location");
+
+        // Both scorers penalise e-mail addresses with the same compiled predicate
+        assertSame(name.getFeatureSets().get(3).getPredicate(), location.getFeatureSets().get(2).getPredicate());
+        assertThrows(UnsupportedOperationException.class, () -> name.getFeatureSets().clear());
+    }
+
+    @Test
+    public void testWeightsComeFromTheRules() {
+        FeatureRules custom = rules("""
+            {
+              "dictionaries": { "titles": ["Engineer"] },
+              "scorers": {
+                "title": {
+                  "returnEmptyIfHighestScoreNotPositive": true,
+                  "features": [
+                    { "predicate": "hasWord", "dictionary": "titles", "score": -1 },
+                    { "predicate": "isBold", "score": 1 }
+                  ]
+                }
+              }
+            }
+            """);
+
+        List<TextItem> items = List.of(item("Engineer", false), item("Acme", true));
+        assertEquals("Acme", scoringSystem.getTextWithHighestFeatureScore(items, custom.scorer("title")));
+    }
+
+    @Test
+    public void testInvalidRulesFailAtStartup() {
+        assertThrows(IllegalStateException.class, () -> rules(
+            "{ \"scorers\": { \"x\": { \"features\": [ { \"predicate\": \"isShiny\", \"score\": 1 } ] } } }"));
+        assertThrows(IllegalStateException.class, () -> rules(
+            "{ \"scorers\": { \"x\": { \"features\": [ { \"predicate\": \"matches\", \"pattern\": \"nope\", \"score\": 1 } ] } } }"));
+        assertThrows(IllegalArgumentException.class, () -> rules.scorer("profile.missing"));
+    }
+}
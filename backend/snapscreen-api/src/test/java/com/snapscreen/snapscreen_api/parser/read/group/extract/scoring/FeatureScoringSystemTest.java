@@ -0,0 +1,78 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeatureScoringSystemTest {
+
+    private final FeatureScoringSystem scoringSystem = new FeatureScoringSystem();
+
+    // Score is the number of digits in the text, minus one for bold items
+    private final List<FeatureScoringSystem.FeatureSet> featureSets = List.of(
+        new FeatureScoringSystem.FeatureSet(item -> item.getText().contains("1"), 1),
+        new FeatureScoringSystem.FeatureSet(item -> item.getText().contains("2"), 1),
+        new FeatureScoringSystem.FeatureSet(item -> item.getText().contains("3"), 1),
+        new FeatureScoringSystem.FeatureSet(FeatureScoringSystem.isBold(), -1));
+
+    private static TextItem item(String text, boolean bold) {
+        return new TextItem(text, 0, 10, 0, bold, true, 1);
+    }
+
+    private static int[] prefix(int[] values, int length) {
+        int[] copy = new int[length];
+        System.arraycopy(values, 0, copy, 0, length);
+        return copy;
+    }
+
+    @Test
+    public void testFirstHighestScoreWins() {
+        List<TextItem> items = List.of(item("a", false), item("12", false), item("21", false), item("123", true));
+
+        assertEquals(1, scoringSystem.getIndexWithHighestFeatureScore(items, featureSets, true));
+        assertEquals("12", scoringSystem.getTextWithHighestFeatureScore(items, featureSets));
+    }
+
+    @Test
+    public void testNonPositiveAndEmpty() {
+        List<TextItem> items = List.of(item("a", false), item("b", true));
+
+        assertEquals("", scoringSystem.getTextWithHighestFeatureScore(items, featureSets, true));
+        assertEquals("a", scoringSystem.getTextWithHighestFeatureScore(items, featureSets, false));
+        assertEquals(-1, scoringSystem.getIndexWithHighestFeatureScore(List.of(), featureSets, false));
+        assertEquals("", scoringSystem.getTextWithHighestFeatureScore(List.of(), featureSets, false));
+    }
+
+    @Test
+    public void testTiesAndTopK() {
+        List<TextItem> items = List.of(
+            item("1", false), item("123", false), item("x", false), item("23", false), item("321", false), item("13", false));
+
+        int[] ties = new int[1];
+        assertEquals(2, scoringSystem.getIndicesWithHighestFeatureScore(items, featureSets, ties));
+        assertArrayEquals(new int[] { 1 }, ties);
+
+        int[] top = new int[4];
+        assertEquals(4, scoringSystem.getTopIndicesByFeatureScore(items, featureSets, top));
+        assertArrayEquals(new int[] { 1, 4, 3, 5 }, top);
+
+        int[] all = new int[10];
+        assertEquals(6, scoringSystem.getTopIndicesByFeatureScore(items, featureSets, all));
+        assertArrayEquals(new int[] { 1, 4, 3, 5, 0, 2 }, prefix(all, 6));
+    }
+
+    @Test
+    public void testScoreBufferGrows() {
+        List<TextItem> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            items.add(item(i == 321 ? "123" : "x" + (i % 10 == 1 ? "1" : ""), false));
+        }
+
+        assertEquals(321, scoringSystem.getIndexWithHighestFeatureScore(items, featureSets, true));
+        assertEquals(1, scoringSystem.getIndexWithHighestFeatureScore(items.subList(0, 5), featureSets, false));
+    }
+}
@@ -0,0 +1,75 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.TextItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiFieldScorerTest {
+
+    private static final List<String> PROFILE_FIELDS = List.of(
+        "profile.name", "profile.email", "profile.phone", "profile.location", "profile.url", "profile.summary");
+
+    private final FeatureRules rules = new FeatureRules(new ClassPathResource("parser/feature-rules.json"));
+    private final FeatureScoringSystem scoringSystem = new FeatureScoringSystem();
+
+    private static TextItem item(String text, boolean bold) {
+        return new TextItem(text, 0, 10, 0, bold, true, 1);
+    }
+
+    @Test
+    public void testMatchesSeparatePasses() {
+        List<TextItem> items = List.of(
+            item("Jane Doe", true),
+            item("JANE", false),
+            item("jane@example.com", false),
+            item("555-123-4567", false),
+            item("Toronto, ON", false),
+            item("https://janedoe.dev", false),
+            item("www.janedoe.dev", false),
+            item("Backend engineer who likes compilers", false),
+            item("Another line with four words", true));
+
+        List<FeatureScorer> scorers = new ArrayList<>();
+        for (String field : PROFILE_FIELDS) {
+            scorers.add(rules.scorer(field));
+        }
+        String[] winners = new MultiFieldScorer(scorers).getTextsWithHighestFeatureScores(items);
+
+        for (int field = 0; field < scorers.size(); field++) {
+            assertEquals(scoringSystem.getTextWithHighestFeatureScore(items, scorers.get(field)), winners[field],
+                PROFILE_FIELDS.get(field));
+        }
+        assertEquals("Jane Doe", winners[0]);
+        assertEquals("Backend engineer who likes compilers", winners[5]);
+    }
+
+    @Test
+    public void testSharedPredicateIsEvaluatedOncePerItem() {
+        AtomicInteger calls = new AtomicInteger();
+        FeaturePredicate bold = textItem -> {
+            calls.incrementAndGet();
+            return textItem.isBold();
+        };
+        FeatureScorer first = new FeatureScorer("first", List.of(new FeatureScoringSystem.FeatureSet(bold, 2)), true);
+        FeatureScorer second = new FeatureScorer("second", List.of(new FeatureScoringSystem.FeatureSet(bold, -1)), false);
+
+        MultiFieldScorer scorer = new MultiFieldScorer(List.of(first, second));
+        String[] winners = scorer.getTextsWithHighestFeatureScores(List.of(item("a", false), item("b", true)));
+
+        assertEquals(1, scorer.getPredicateCount());
+        assertEquals(2, calls.get());
+        assertArrayEquals(new String[] { "b", "a" }, winners);
+    }
+
+    @Test
+    public void testEmptyInput() {
+        MultiFieldScorer scorer = new MultiFieldScorer(List.of(rules.scorer("profile.name"), rules.scorer("date")));
+        assertArrayEquals(new String[] { "", "" }, scorer.getTextsWithHighestFeatureScores(List.of()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.snapscreen.snapscreen_api.parser.read.group.extract.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextLexerTest {
+
+    private static final Pattern YEAR = Pattern.compile("(?:19|20)\\d{2}");
+    private static final List<String> MONTHS = List.of(
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
+    private static final List<String> SEASONS = List.of("Spring", "Summer", "Fall", "Winter");
+
+    // The regex and stream based checks the lexer replaces
+    private static long reference(String text) {
+        long bits = 0;
+        if (Pattern.compile("[a-zA-Z]").matcher(text).find()) {
+            bits |= FeatureBits.HAS_LETTER;
+        }
+        if (Pattern.compile("[0-9]").matcher(text).find()) {
+            bits |= FeatureBits.HAS_NUMBER;
+        }
+        if (text.contains(",")) {
+            bits |= FeatureBits.HAS_COMMA;
+        }
+        if (!text.equals(text.toLowerCase()) && text.equals(text.toUpperCase())) {
+            bits |= FeatureBits.ALL_UPPERCASE;
+        }
+        if (YEAR.matcher(text).find()) {
+            bits |= FeatureBits.HAS_YEAR;
+        }
+        if (MONTHS.stream().anyMatch(text::contains)) {
+            bits |= FeatureBits.HAS_MONTH;
+        }
+        if (SEASONS.stream().anyMatch(text::contains)) {
+            bits |= FeatureBits.HAS_SEASON;
+        }
+        if (text.contains("Present")) {
+            bits |= FeatureBits.HAS_PRESENT;
+        }
+        return bits;
+    }
+
+    @Test
+    public void testKnownTexts() {
+        for (String text : List.of("", "Jane Doe", "SEPT 2019", "May 2020 – Present", "Summer, 1899", "2019",
+                "201", "x20199", "Fall2020", "Mary", "ÉCOLE", "Überblick", "straße", "ΑΒΓ", "PRESENT", "Present")) {
+            assertEquals(reference(text), TextLexer.scan(text), text);
+        }
+    }
+
+    @Test
+    public void testRandomTexts() {
+        String alphabet = "JanMayOctSpringFallWinterPresent 0129,-ÉéAZaz";
+        Random random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(reference(text.toString()), TextLexer.scan(text.toString()), text.toString());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.snapscreen.snapscreen_api.service;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkParseServiceTest {
+
+    private ForkJoinPool executor;
+    private ResumeParser resumeParser;
+    private S3StorageService s3StorageService;
+    private BulkParseService bulkParseService;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ForkJoinPool(4);
+        resumeParser = mock(ResumeParser.class);
+        s3StorageService = mock(S3StorageService.class);
+        // A window of 2 documents and a 16 byte size limit
+        bulkParseService = new BulkParseService(resumeParser, s3StorageService, executor, 2, 16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAtMostTheWindowIsInFlight() throws IOException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return new ParsedResume();
+        });
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add("resumes/user" + i + "/resume.pdf");
+            when(s3StorageService.downloadFile(keys.get(i), 16)).thenReturn(new byte[]{'%'});
+        }
+
+        List<BulkParseService.Result> results = Collections.synchronizedList(new ArrayList<>());
+        bulkParseService.parseAll(bulkParseService.fromS3(keys), ResumeField.all(), results::add);
+
+        assertEquals(10, results.size());
+        assertTrue(results.stream().allMatch(BulkParseService.Result::succeeded));
+        assertEquals(keys, results.stream().map(BulkParseService.Result::name).sorted().toList());
+        assertTrue(maxInFlight.get() <= 2, "at most 2 in flight but saw " + maxInFlight.get());
+    }
+
+    @Test
+    public void testZipEntriesAreParsedAndFailuresReported() throws IOException {
+        byte[] small = {'%', 'P', 'D', 'F'};
+        ParsedResume parsedResume = new ParsedResume();
+        parsedResume.setName("Jane Doe");
+        when(resumeParser.parseResumeFromPdf(eq(small), any())).thenReturn(parsedResume);
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("resumes/"));
+            out.putNextEntry(new ZipEntry("resumes/jane.pdf"));
+            out.write(small);
+            out.putNextEntry(new ZipEntry("resumes/notes.txt"));
+            out.write(small);
+            out.putNextEntry(new ZipEntry("resumes/huge.pdf"));
+            out.write(new byte[17]);
+        }
+
+        List<BulkParseService.Result> results = new ArrayList<>();
+        bulkParseService.parseAll(
+            bulkParseService.fromZip(new ByteArrayInputStream(zip.toByteArray())), ResumeField.all(), results::add);
+
+        assertEquals(3, results.size());
+        results.sort((a, b) -> a.name().compareTo(b.name()));
+        assertEquals("resumes/huge.pdf", results.get(0).name());
+        assertEquals("File is larger than 16 bytes", results.get(0).error());
+        assertEquals("resumes/jane.pdf", results.get(1).name());
+        assertEquals("Jane Doe", results.get(1).resume().getName());
+        assertEquals("resumes/notes.txt", results.get(2).name());
+        assertFalse(results.get(2).succeeded());
+    }
+
+    @Test
+    public void testErrorInAWorkerStillProducesAResult() throws IOException {
+        when(s3StorageService.downloadFile("resumes/deep.pdf", 16)).thenReturn(new byte[]{'%'});
+        when(s3StorageService.downloadFile("resumes/huge.pdf", 16)).thenThrow(new IOException("File is larger than 16 bytes"));
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenThrow(new StackOverflowError());
+
+        List<BulkParseService.Result> results = Collections.synchronizedList(new ArrayList<>());
+        bulkParseService.parseAll(
+            bulkParseService.fromS3(List.of("resumes/deep.pdf", "resumes/huge.pdf")), ResumeField.all(), results::add);
+
+        assertEquals(2, results.size());
+        results.sort((a, b) -> a.name().compareTo(b.name()));
+        assertEquals("Failed to parse", results.get(0).error());
+        assertEquals("File is larger than 16 bytes", results.get(1).error());
+    }
+}
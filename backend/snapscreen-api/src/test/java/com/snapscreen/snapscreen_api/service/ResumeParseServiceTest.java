@@ -0,0 +1,168 @@
+package com.snapscreen.snapscreen_api.service;
+
+import com.snapscreen.snapscreen_api.model.resumeparser.ParseJob;
+import com.snapscreen.snapscreen_api.model.resumeparser.ParsedResume;
+import com.snapscreen.snapscreen_api.parser.ResumeField;
+import com.snapscreen.snapscreen_api.parser.ResumeParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResumeParseServiceTest {
+
+    private final byte[] pdf = {'%', 'P', 'D', 'F'};
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry registry;
+    private ResumeParser resumeParser;
+    private ResumeParseService resumeParseService;
+
+    @BeforeEach
+    public void setUp() {
+        // One worker and one queue slot
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        resumeParser = mock(ResumeParser.class);
+        registry = new SimpleMeterRegistry();
+        resumeParseService = new ResumeParseService(resumeParser, executor, 15, registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static void awaitDone(ParseJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isDone());
+    }
+
+    /**
+     * Wait for the workers to finish what they were running, including the timers recorded after a job is done
+     */
+    private void awaitWorkers() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testJobSucceedsAndIsOnlyVisibleToItsOwner() throws InterruptedException {
+        ParsedResume parsedResume = new ParsedResume();
+        parsedResume.setName("Jane Doe");
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenReturn(parsedResume);
+
+        ParseJob job = resumeParseService.submit("user1", pdf, ResumeField.all());
+        awaitDone(job);
+
+        assertEquals(ParseJob.Status.SUCCEEDED, job.getStatus());
+        assertSame(parsedResume, job.getResult());
+        assertTrue(job.getRunMillis() >= 0);
+        assertSame(job, resumeParseService.getJob("user1", job.getId()).orElseThrow());
+        assertTrue(resumeParseService.getJob("user2", job.getId()).isEmpty());
+        assertTrue(resumeParseService.getJob("user1", "unknown").isEmpty());
+    }
+
+    @Test
+    public void testFailedParseIsReported() throws InterruptedException {
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any()))
+            .thenThrow(new RuntimeException("Failed to read PDF from bytes"));
+
+        ParseJob job = resumeParseService.submit("user1", pdf, ResumeField.all());
+        awaitDone(job);
+
+        assertEquals(ParseJob.Status.FAILED, job.getStatus());
+        assertEquals("Failed to read PDF from bytes", job.getError());
+    }
+
+    @Test
+    public void testErrorFailsTheJob() throws InterruptedException {
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenThrow(new StackOverflowError());
+
+        ParseJob job = resumeParseService.submit("user1", pdf, ResumeField.all());
+        awaitDone(job);
+
+        assertEquals(ParseJob.Status.FAILED, job.getStatus());
+        assertEquals("Failed to parse resume", job.getError());
+        awaitWorkers();
+        assertEquals(1, registry.get("resume.parser.job.run").timer().count());
+    }
+
+    @Test
+    public void testExpiredJobsAreEvictedWithoutNewSubmissions() throws InterruptedException {
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenReturn(new ParsedResume());
+        ResumeParseService noRetention = new ResumeParseService(resumeParser, executor, 0, new SimpleMeterRegistry());
+
+        ParseJob job = noRetention.submit("user1", pdf, ResumeField.all());
+        awaitDone(job);
+        Thread.sleep(1);
+
+        assertTrue(noRetention.getJob("user1", job.getId()).isEmpty());
+    }
+
+    @Test
+    public void testFullQueueIsRejected() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenAnswer(invocation -> {
+            release.await();
+            return new ParsedResume();
+        });
+
+        ParseJob running = resumeParseService.submit("user1", pdf, ResumeField.all());
+        ParseJob queued = resumeParseService.submit("user1", pdf, ResumeField.all());
+        assertThrows(RejectedExecutionException.class,
+            () -> resumeParseService.submit("user1", pdf, ResumeField.all()));
+        assertEquals(ParseJob.Status.QUEUED, queued.getStatus());
+
+        release.countDown();
+        awaitDone(running);
+        awaitDone(queued);
+        assertTrue(queued.getQueueWaitMillis() >= 0);
+
+        awaitWorkers();
+        assertEquals(2, registry.get("resume.parser.job.queue.wait").timer().count());
+        assertEquals(2, registry.get("resume.parser.job.run").timer().count());
+        // The queued job waited for the running one to be released
+        assertTrue(registry.get("resume.parser.job.queue.wait").timer().max(TimeUnit.NANOSECONDS)
+            >= queued.getStartedNanos() - queued.getSubmittedNanos());
+    }
+
+    @Test
+    public void testCancelledJobGivesUpItsQueueSlotAndNeverRuns() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(resumeParser.parseResumeFromPdf(any(byte[].class), any())).thenAnswer(invocation -> {
+            release.await();
+            return new ParsedResume();
+        });
+
+        ParseJob running = resumeParseService.submit("user1", pdf, ResumeField.all());
+        ParseJob queued = resumeParseService.submit("user1", pdf, ResumeField.all());
+        assertFalse(resumeParseService.cancel("user2", queued.getId()));
+        assertTrue(resumeParseService.cancel("user1", queued.getId()));
+
+        assertTrue(executor.getQueue().isEmpty());
+        assertTrue(resumeParseService.getJob("user1", queued.getId()).isEmpty());
+        ParseJob next = resumeParseService.submit("user1", pdf, ResumeField.all());
+
+        release.countDown();
+        awaitDone(running);
+        awaitDone(next);
+        assertEquals(ParseJob.Status.QUEUED, queued.getStatus());
+        verify(resumeParser, times(2)).parseResumeFromPdf(any(byte[].class), any());
+    }
+}
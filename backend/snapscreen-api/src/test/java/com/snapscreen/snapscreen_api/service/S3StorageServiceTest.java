@@ -0,0 +1,64 @@
+package com.snapscreen.snapscreen_api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class S3StorageServiceTest {
+
+    private S3Client s3Client;
+    private S3StorageService s3StorageService;
+
+    @BeforeEach
+    public void setUp() {
+        s3Client = mock(S3Client.class);
+        when(s3Client.serviceClientConfiguration()).thenReturn(S3ServiceClientConfiguration.builder()
+            .region(Region.US_EAST_1)
+            .credentialsProvider(AnonymousCredentialsProvider.create())
+            .build());
+        s3StorageService = new S3StorageService(s3Client);
+    }
+
+    private void stubObject(Long contentLength, byte[] content) {
+        GetObjectResponse response = GetObjectResponse.builder().contentLength(contentLength).build();
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(
+            new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream(content))));
+    }
+
+    @Test
+    public void testDownloadFile_WithinLimit() throws IOException {
+        stubObject(4L, new byte[]{'%', 'P', 'D', 'F'});
+
+        assertArrayEquals(new byte[]{'%', 'P', 'D', 'F'}, s3StorageService.downloadFile("resumes/jane.pdf", 16));
+    }
+
+    @Test
+    public void testDownloadFile_RefusesLargeObjectFromItsLength() {
+        stubObject(17L, new byte[0]);
+
+        IOException e = assertThrows(IOException.class, () -> s3StorageService.downloadFile("resumes/huge.pdf", 16));
+        assertEquals("File is larger than 16 bytes", e.getMessage());
+    }
+
+    @Test
+    public void testDownloadFile_RefusesLargeObjectWithoutLength() {
+        stubObject(null, new byte[17]);
+
+        assertThrows(IOException.class, () -> s3StorageService.downloadFile("resumes/huge.pdf", 16));
+    }
+}